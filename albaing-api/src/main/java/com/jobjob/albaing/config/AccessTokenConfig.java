@@ -0,0 +1,23 @@
+package com.jobjob.albaing.config;
+
+import com.jobjob.albaing.service.AccessTokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// auth.token.enabled=true 일 때만 토큰 검증 필터 등록
+@Configuration
+@ConditionalOnProperty(name = "auth.token.enabled", havingValue = "true")
+public class AccessTokenConfig {
+
+    @Bean
+    public FilterRegistrationBean<AccessTokenFilter> accessTokenFilter(AccessTokenService accessTokenService) {
+        FilterRegistrationBean<AccessTokenFilter> registration =
+                new FilterRegistrationBean<>(new AccessTokenFilter(accessTokenService));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
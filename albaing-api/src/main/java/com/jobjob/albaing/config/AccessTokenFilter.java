@@ -0,0 +1,58 @@
+package com.jobjob.albaing.config;
+
+import com.jobjob.albaing.model.vo.SessionPrincipal;
+import com.jobjob.albaing.service.AccessTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 토큰 인증 모드에서 Authorization 헤더(Bearer) 또는 쿠키의 토큰을 검증하고,
+ * 로그인 정보를 request attribute (SessionPrincipal.SESSION_KEY) 로 전달합니다.
+ */
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    public static final String TOKEN_COOKIE = "ALBAING_TOKEN";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenService accessTokenService;
+
+    public AccessTokenFilter(AccessTokenService accessTokenService) {
+        this.accessTokenService = accessTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null) {
+            SessionPrincipal principal = accessTokenService.verify(token);
+            if (principal != null) {
+                request.setAttribute(SessionPrincipal.SESSION_KEY, principal);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    public static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (TOKEN_COOKIE.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.jobjob.albaing.config;
+
+import com.jobjob.albaing.service.ExistenceFilterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// existencefilter 엔드포인트: 블룸 필터 상태 조회, 재생성 (전체 테이블 스캔이므로 JMX 로만 노출)
+@Component
+@Endpoint(id = "existencefilter")
+public class ExistenceFilterEndpoint {
+
+    @Autowired
+    private ExistenceFilterService existenceFilterService;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return existenceFilterService.stats();
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        existenceFilterService.rebuild();
+        return existenceFilterService.stats();
+    }
+}
@@ -5,7 +5,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 import java.util.Properties;
 
@@ -31,9 +30,33 @@ public class MailConfig {
     @Value("${spring.mail.properties.mail.smtp.starttls.enable}")
     private String starttls;
 
+    @Value("${spring.mail.properties.mail.debug:false}")
+    private String debug;
+
+    // SMTP 연결/읽기/쓰기 타임아웃 (ms)
+    @Value("${mail.smtp.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    @Value("${mail.smtp.read-timeout-ms:10000}")
+    private int readTimeoutMs;
+
+    // SMTP 연결 풀
+    @Value("${mail.pool.max-connections:4}")
+    private int maxConnections;
+
+    @Value("${mail.pool.validate-after-idle-ms:5000}")
+    private long validateAfterIdleMs;
+
+    @Value("${mail.pool.max-idle-ms:60000}")
+    private long maxIdleMs;
+
+    @Value("${mail.pool.borrow-timeout-ms:10000}")
+    private long borrowTimeoutMs;
+
     @Bean
     public JavaMailSender javaMailSender() {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        PooledJavaMailSender mailSender =
+                new PooledJavaMailSender(maxConnections, validateAfterIdleMs, maxIdleMs, borrowTimeoutMs);
         mailSender.setHost(host);
         mailSender.setPort(port);
         mailSender.setUsername(username);
@@ -43,8 +66,11 @@ public class MailConfig {
         props.put("mail.transport.protocol", "smtp");
         props.put("mail.smtp.auth", auth);
         props.put("mail.smtp.starttls.enable", starttls);
-        props.put("mail.debug", "true");
+        props.put("mail.smtp.connectiontimeout", String.valueOf(connectTimeoutMs));
+        props.put("mail.smtp.timeout", String.valueOf(readTimeoutMs));
+        props.put("mail.smtp.writetimeout", String.valueOf(readTimeoutMs));
+        props.put("mail.debug", debug);
 
         return mailSender;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.jobjob.albaing.config;
+
+import com.jobjob.albaing.model.vo.MailJob;
+import com.jobjob.albaing.service.MailDispatchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// maildispatch : 메일 대기열 상태와 dead-letter 목록
+// 인증 없는 web 에 노출하지 않고 JMX 로만 제공, 수신 주소는 앞 2자만 남기고 가림 (SMTP 오류 메시지 안의 주소 포함)
+@Component
+@Endpoint(id = "maildispatch")
+public class MailDispatchEndpoint {
+
+    private static final Pattern EMAIL = Pattern.compile("([A-Za-z0-9._%+-]+)@([A-Za-z0-9.-]+)");
+
+    @Autowired
+    private MailDispatchService mailDispatchService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> result = new LinkedHashMap<>(mailDispatchService.stats());
+        List<Map<String, Object>> deadLetters = mailDispatchService.getDeadLetters().stream()
+                .map(MailDispatchEndpoint::summary)
+                .toList();
+        result.put("deadLetterJobs", deadLetters);
+        return result;
+    }
+
+    private static Map<String, Object> summary(MailJob job) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("id", job.getId());
+        summary.put("to", maskEmails(job.getTo()));
+        summary.put("subject", job.getContent().getSubject());
+        summary.put("attempts", job.getAttempts());
+        summary.put("lastError", maskEmails(job.getLastError()));
+        summary.put("createdAt", job.getCreatedAt());
+        return summary;
+    }
+
+    // user@example.com → us***@example.com
+    static String maskEmails(String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = EMAIL.matcher(text);
+        StringBuilder masked = new StringBuilder();
+        while (matcher.find()) {
+            String local = matcher.group(1);
+            String visible = local.substring(0, Math.min(2, local.length()));
+            matcher.appendReplacement(masked, Matcher.quoteReplacement(visible + "***@" + matcher.group(2)));
+        }
+        matcher.appendTail(masked);
+        return masked.toString();
+    }
+}
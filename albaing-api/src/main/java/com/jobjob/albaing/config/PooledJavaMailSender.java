@@ -0,0 +1,195 @@
+package com.jobjob.albaing.config;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증(AUTH)까지 끝난 SMTP 연결을 풀에 보관하여 재사용하는 JavaMailSender.
+ *
+ * JavaMailSenderImpl 은 send 호출마다 TCP + STARTTLS + AUTH 를 새로 수행하지만,
+ * 이 구현은 최대 maxConnections 개의 연결을 유지하며 빌려 씁니다.
+ * - 일정 시간 이상 쉬었던 연결은 재사용 전 NOOP(isConnected)으로 검사합니다.
+ * - send(MimeMessage...) 로 여러 메시지를 넘기면 하나의 연결로 연속 전송합니다.
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledJavaMailSender.class);
+
+    private final int maxConnections;
+    private final long validateAfterIdleMs;
+    private final long maxIdleMs;
+    private final long borrowTimeoutMs;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+
+    private volatile boolean closed;
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private long lastUsedAt;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+    }
+
+    public PooledJavaMailSender(int maxConnections, long validateAfterIdleMs, long maxIdleMs, long borrowTimeoutMs) {
+        this.maxConnections = maxConnections;
+        this.validateAfterIdleMs = validateAfterIdleMs;
+        this.maxIdleMs = maxIdleMs;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.permits = new Semaphore(maxConnections, true);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport pooled = borrow();
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    // 연결이 끊겼으면 (이전 메시지 실패 등) 새 연결로 교체
+                    if (pooled == null) {
+                        pooled = borrow();
+                    }
+                    prepare(mimeMessage);
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    pooled.transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+                } catch (MailSendException | MailAuthenticationException e) {
+                    // 연결 자체를 얻지 못한 경우 나머지 메시지도 실패 처리
+                    for (int j = i; j < mimeMessages.length; j++) {
+                        failedMessages.put(originalMessages != null ? originalMessages[j] : mimeMessages[j], e);
+                    }
+                    break;
+                } catch (Exception e) {
+                    failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessage, e);
+                    if (pooled != null && !pooled.transport.isConnected()) {
+                        discard(pooled);
+                        pooled = null;
+                    }
+                }
+            }
+        } finally {
+            if (pooled != null) {
+                release(pooled);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    // JavaMailSenderImpl.doSend 와 동일하게 발송 시각/Message-ID 처리
+    private void prepare(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+    }
+
+    private PooledTransport borrow() {
+        if (closed) {
+            throw new MailSendException("메일 발송기가 종료되었습니다.");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("SMTP 연결 대기 시간이 초과되었습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("SMTP 연결 대기 중 인터럽트가 발생했습니다.", e);
+        }
+
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                long idleFor = System.currentTimeMillis() - pooled.lastUsedAt;
+                if (idleFor > maxIdleMs) {
+                    closeQuietly(pooled);
+                    continue;
+                }
+                // 오래 쉬었던 연결은 NOOP 으로 살아있는지 확인
+                if (idleFor > validateAfterIdleMs && !pooled.transport.isConnected()) {
+                    closeQuietly(pooled);
+                    continue;
+                }
+                return pooled;
+            }
+            return new PooledTransport(connectTransport());
+        } catch (AuthenticationFailedException e) {
+            permits.release();
+            throw new MailAuthenticationException(e);
+        } catch (MessagingException e) {
+            permits.release();
+            throw new MailSendException("SMTP 서버에 연결할 수 없습니다: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledTransport pooled) {
+        if (closed) {
+            closeQuietly(pooled);
+        } else {
+            pooled.lastUsedAt = System.currentTimeMillis();
+            idle.offerFirst(pooled);
+        }
+        permits.release();
+    }
+
+    private void discard(PooledTransport pooled) {
+        closeQuietly(pooled);
+        permits.release();
+    }
+
+    private void closeQuietly(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            logger.debug("SMTP 연결 종료 중 오류: {}", e.getMessage());
+        }
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getIdleConnections() {
+        return idle.size();
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            closeQuietly(pooled);
+        }
+    }
+}
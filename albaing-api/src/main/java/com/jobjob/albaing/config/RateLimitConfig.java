@@ -0,0 +1,31 @@
+package com.jobjob.albaing.config;
+
+import com.jobjob.albaing.service.RateLimitService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Value("${rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, RateLimitService.SEND_CODE, trustForwardedFor))
+                .addPathPatterns("/api/auth/sendCode");
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, RateLimitService.CHECK_CODE, trustForwardedFor))
+                .addPathPatterns("/api/auth/checkCode");
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, RateLimitService.LOGIN, trustForwardedFor))
+                .addPathPatterns("/api/auth/login/person", "/api/auth/login/company");
+        // 분할 업로드 세션 생성 (로그인 전에도 가능하므로 IP 기준으로 제한)
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, RateLimitService.UPLOAD_CREATE, trustForwardedFor))
+                .addPathPatterns("/api/uploads");
+    }
+}
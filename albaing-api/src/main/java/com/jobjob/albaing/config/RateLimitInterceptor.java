@@ -0,0 +1,47 @@
+package com.jobjob.albaing.config;
+
+import com.jobjob.albaing.service.RateLimitService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 컨트롤러(요청 본문 파싱) 이전에 IP 기준 요청 한도를 확인합니다.
+ * 이메일 기준 한도는 본문이 필요하므로 컨트롤러에서 확인합니다.
+ * 판별한 클라이언트 IP 는 CLIENT_IP_ATTRIBUTE 요청 속성으로 컨트롤러에 넘깁니다.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String CLIENT_IP_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".clientIp";
+
+    private final RateLimitService rateLimitService;
+    private final String endpoint;
+    private final boolean trustForwardedFor;
+
+    public RateLimitInterceptor(RateLimitService rateLimitService, String endpoint, boolean trustForwardedFor) {
+        this.rateLimitService = rateLimitService;
+        this.endpoint = endpoint;
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if ("POST".equalsIgnoreCase(request.getMethod())) {
+            String clientIp = clientIp(request);
+            request.setAttribute(CLIENT_IP_ATTRIBUTE, clientIp);
+            rateLimitService.checkIp(endpoint, clientIp);
+        }
+        return true;
+    }
+
+    // 프록시 뒤에서 운영할 때만 X-Forwarded-For 를 신뢰
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                return forwarded.split(",")[0].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
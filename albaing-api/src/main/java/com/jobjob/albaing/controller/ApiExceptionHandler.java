@@ -0,0 +1,60 @@
+package com.jobjob.albaing.controller;
+
+import com.jobjob.albaing.exception.PasswordHashingRejectedException;
+import com.jobjob.albaing.exception.RateLimitExceededException;
+import com.jobjob.albaing.exception.TokenRevocationFailedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // 비밀번호 해싱 대기열 초과 → 429
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handlePasswordHashingRejected(PasswordHashingRejectedException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "fail");
+        response.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    // 요청 한도 초과 → 429 + Retry-After
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceeded(RateLimitExceededException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "fail");
+        response.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    // 토큰 폐기 실패 (로그아웃 실패) → 503
+    @ExceptionHandler(TokenRevocationFailedException.class)
+    public ResponseEntity<Map<String, Object>> handleTokenRevocationFailed(TokenRevocationFailedException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "fail");
+        response.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    // 업로드 크기 제한 초과 (컨테이너가 multipart 를 읽는 도중 중단) → 413
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleMaxUploadSizeExceeded(MaxUploadSizeExceededException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "fail");
+        response.put("message", "업로드 파일이 너무 큽니다.");
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    }
+}
@@ -2,10 +2,17 @@ package com.jobjob.albaing.controller;
 
 import com.jobjob.albaing.dto.Company;
 import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.model.vo.MailJob;
+import com.jobjob.albaing.model.vo.OAuthProfile;
+import com.jobjob.albaing.model.vo.SessionPrincipal;
 import com.jobjob.albaing.model.vo.VerificationRequest;
 import com.jobjob.albaing.service.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +21,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -27,45 +36,82 @@ public class AuthController {
     private ResumeServiceImpl resumeService;
     @Autowired
     private FileService fileService;
+    @Autowired
+    private SessionProfileService sessionProfileService;
+    @Autowired
+    private LoginSessionManager loginSessionManager;
+    @Autowired
+    private MailDispatchService mailDispatchService;
+    @Autowired
+    private RateLimitService rateLimitService;
+    @Autowired
+    private OAuthLoginService oAuthLoginService;
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Value("${oauth.pending-ttl-minutes:10}")
+    private long oAuthPendingTtlMinutes;
 
     @PostMapping(value = "/register/person", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Map<String, Object>> registerUser(
         @RequestPart("user") User user,
-        @RequestPart(value = "userProfileImage", required = false) MultipartFile userProfileImage) {
+        @RequestPart(value = "userProfileImage", required = false) MultipartFile userProfileImage,
+        @RequestParam(value = "uploadId", required = false) String uploadId,
+        HttpServletRequest request) {
+        // 이번 요청에서 참조를 추가한 이미지 (가입에 실패하면 해제)
+        String acquiredImage = null;
         try {authService.validateUserInput(user);
             if (userProfileImage != null && !userProfileImage.isEmpty()) {
                 System.out.println("DEBUG: 파일 업로드 시작 - " + userProfileImage.getOriginalFilename());
                 String imageUrl = fileService.uploadFile(userProfileImage);
+                acquiredImage = imageUrl;
                 System.out.println("DEBUG: 업로드된 이미지 URL = " + imageUrl);
                 user.setUserProfileImage(imageUrl);
+            } else if (uploadId != null && !uploadId.isBlank()) {
+                // 분할 업로드로 미리 올린 이미지
+                acquiredImage = chunkedUploadService.consume(uploadId);
+                user.setUserProfileImage(acquiredImage);
             } else {
                 System.out.println("DEBUG: userProfileImage 파일이 제공되지 않음, 이미 설정된 URL을 유지: " + user.getUserProfileImage());
+                fileService.retain(user.getUserProfileImage());
+                acquiredImage = user.getUserProfileImage();
             }
             Map<String, Object> response = authService.registerUser(user);
 
             if ("success".equals(response.get("status"))) {
+                acquiredImage = null;
                 resumeService.createResumeForUser(user);
+                linkPendingOAuthIdentity(request, user);
                 return ResponseEntity.ok(response);
             } else if ("fail".equals(response.get("status"))) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             } else {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
             }
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | NoSuchElementException e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("status", "fail");
             errorResponse.put("message", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } finally {
+            if (acquiredImage != null) {
+                fileService.release(acquiredImage);
+            }
         }
     }
 
 
     @PostMapping("/login/person")
-    public ResponseEntity<Map<String, Object>> loginPerson(@RequestBody User user, HttpSession session) {
+    public ResponseEntity<Map<String, Object>> loginPerson(@RequestBody User user,
+                                                           HttpServletRequest request, HttpServletResponse httpResponse) {
+        rateLimitService.checkEmail(RateLimitService.LOGIN, user.getUserEmail());
         Map<String, Object> result = authService.loginUser(user.getUserEmail(), user.getUserPassword());
 
         if ("success".equals(result.get("status"))) {
-            session.setAttribute("userSession", result.get("user"));
+            String token = loginSessionManager.login(request, httpResponse, SessionPrincipal.of((User) result.get("user")));
+            if (token != null) {
+                result.put("accessToken", token);
+            }
             return ResponseEntity.ok(result);
         } else {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(result);
@@ -76,41 +122,61 @@ public class AuthController {
     @PostMapping(value = "/register/company", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Map<String, Object>> registerCompany(
         @RequestPart("company") Company company,
-        @RequestPart(value = "companyLogo", required = false) MultipartFile companyLogo) {
+        @RequestPart(value = "companyLogo", required = false) MultipartFile companyLogo,
+        @RequestParam(value = "uploadId", required = false) String uploadId) {
+        // 이번 요청에서 참조를 추가한 로고 (가입에 실패하면 해제)
+        String acquiredLogo = null;
         try {
             authService.validateCompanyInput(company);
             if (companyLogo != null && !companyLogo.isEmpty()) {
                 System.out.println("DEBUG: 파일 업로드 시작 - " + companyLogo.getOriginalFilename());
                 String logoUrl = fileService.uploadFile(companyLogo);
+                acquiredLogo = logoUrl;
                 System.out.println("DEBUG: 업로드된 로고 URL = " + logoUrl);
                 company.setCompanyLogo(logoUrl);
+            } else if (uploadId != null && !uploadId.isBlank()) {
+                // 분할 업로드로 미리 올린 로고
+                acquiredLogo = chunkedUploadService.consume(uploadId);
+                company.setCompanyLogo(acquiredLogo);
             } else {
                 System.out.println("DEBUG: companyLogo가 null 또는 비어 있음");
+                fileService.retain(company.getCompanyLogo());
+                acquiredLogo = company.getCompanyLogo();
             }
             Map<String, Object> response = authService.registerCompany(company);
 
             if ("success".equals(response.get("status"))) {
+                acquiredLogo = null;
                 return ResponseEntity.ok(response);
             } else if ("fail".equals(response.get("status"))) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             } else {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
             }
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | NoSuchElementException e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("status", "fail");
             errorResponse.put("message", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } finally {
+            if (acquiredLogo != null) {
+                fileService.release(acquiredLogo);
+            }
         }
     }
 
 
     @PostMapping("/login/company")
-    public ResponseEntity<Map<String, Object>> loginCompany(@RequestBody Company company, HttpSession session) {
+    public ResponseEntity<Map<String, Object>> loginCompany(@RequestBody Company company,
+                                                            HttpServletRequest request, HttpServletResponse httpResponse) {
+        rateLimitService.checkEmail(RateLimitService.LOGIN, company.getCompanyEmail());
         Map<String, Object> result = authService.loginCompany(company.getCompanyEmail(), company.getCompanyPassword());
 
         if ("success".equals(result.get("status"))) {
-            session.setAttribute("companySession", result.get("company"));
+            String token = loginSessionManager.login(request, httpResponse, SessionPrincipal.of((Company) result.get("company")));
+            if (token != null) {
+                result.put("accessToken", token);
+            }
             return ResponseEntity.ok(result);
         } else {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(result);
@@ -119,12 +185,9 @@ public class AuthController {
 
 
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, Object>> logout(HttpSession session) {
-
-        session.removeAttribute("userSession");
-        session.removeAttribute("companySession");
+    public ResponseEntity<Map<String, Object>> logout(HttpServletRequest request, HttpServletResponse httpResponse) {
 
-        session.invalidate(); // 세션 무효화
+        loginSessionManager.logout(request, httpResponse);
 
         Map<String, Object> response = new HashMap<>();
         response.put("status", "success");
@@ -132,31 +195,85 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    // 세션의 로그인 정보만 반환 (ETag 가 같으면 304)
     @GetMapping("/checkLogin")
-    public ResponseEntity<?> checkLogin(HttpSession session) {
-        User loginUser = (User) session.getAttribute("userSession");
-        Company loginCompany = (Company) session.getAttribute("companySession");
-
-        if (loginUser != null) {
-            return ResponseEntity.ok(loginUser);
-        } else if (loginCompany != null) {
-            return ResponseEntity.ok(loginCompany);
-        } else {
+    public ResponseEntity<?> checkLogin(HttpServletRequest request) {
+        SessionPrincipal principal = loginSessionManager.current(request);
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "로그인 상태가 아닙니다."));
+        }
+        return ResponseEntity.ok()
+            .eTag(principal.getEtag())
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(principal);
+    }
+
+    // 로그인 사용자의 전체 프로필 (필요한 화면에서만 호출)
+    @GetMapping("/checkLogin/profile")
+    public ResponseEntity<?> checkLoginProfile(HttpServletRequest request) {
+        SessionPrincipal principal = loginSessionManager.current(request);
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "로그인 상태가 아닙니다."));
         }
+        // 캐시(SessionProfileService)의 객체는 여러 요청이 공유하므로 복사본에 썸네일 URL 을 채움
+        Object profile = null;
+        if (principal.isCompany()) {
+            Company company = sessionProfileService.getCompanyProfile(principal);
+            if (company != null) {
+                profile = company.withCompanyLogoVariants(fileService.imageVariantsOf(company.getCompanyLogo()));
+            }
+        } else {
+            User user = sessionProfileService.getUserProfile(principal);
+            if (user != null) {
+                profile = user.withUserProfileImageVariants(fileService.imageVariantsOf(user.getUserProfileImage()));
+            }
+        }
+        if (profile == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", "회원 정보를 찾을 수 없습니다."));
+        }
+        return ResponseEntity.ok(profile);
+    }
+
+    /**************************** 중복 확인 (화면에서 명시적으로 요청할 때만) ***********************************/
+    @GetMapping("/check/user")
+    public ResponseEntity<Map<String, Object>> checkUserDuplicate(@RequestParam(required = false) String email,
+                                                                  @RequestParam(required = false) String phone) {
+        Map<String, Object> response = new HashMap<>();
+        if (email != null) {
+            response.put("emailExists", authService.isUserExist(email));
+        }
+        if (phone != null) {
+            response.put("phoneExists", authService.isUserPhoneExist(phone));
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/check/company")
+    public ResponseEntity<Map<String, Object>> checkCompanyDuplicate(@RequestParam(required = false) String email,
+                                                                     @RequestParam(required = false) String phone) {
+        Map<String, Object> response = new HashMap<>();
+        if (email != null) {
+            response.put("emailExists", authService.isCompanyExist(email));
+        }
+        if (phone != null) {
+            response.put("phoneExists", authService.isCompanyPhoneExist(phone));
+        }
+        return ResponseEntity.ok(response);
     }
 
     /**************************** 이메일 인증 ***********************************/
     @PostMapping("/sendCode")
     public ResponseEntity<Map<String, Object>> sendCode(@RequestBody VerificationRequest vr) {
         Map<String, Object> response = new HashMap<>();
+        rateLimitService.checkEmail(RateLimitService.SEND_CODE, vr.getEmail());
         try {
             String email = vr.getEmail();
             String code = verificationService.randomCode();
             verificationService.saveEmailCode(email, code);
-            verificationService.sendEmail(email, code);
+            String mailId = verificationService.sendEmail(email, code);
             response.put("status", "success");
-            response.put("message", "이메일을 성공적으로 보냈습니다: " + email);
+            response.put("message", "인증 메일 발송을 요청했습니다: " + email);
+            response.put("mailId", mailId);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             response.put("status", "error");
@@ -165,10 +282,28 @@ public class AuthController {
         }
     }
 
+    // 인증 메일 발송 상태 조회 (QUEUED, SENDING, RETRYING, SENT, FAILED)
+    @GetMapping("/sendCode/{mailId}")
+    public ResponseEntity<Map<String, Object>> sendCodeStatus(@PathVariable String mailId) {
+        Map<String, Object> response = new HashMap<>();
+        MailJob.Status status = mailDispatchService.getStatus(mailId);
+
+        if (status == null) {
+            response.put("status", "fail");
+            response.put("message", "발송 정보를 찾을 수 없습니다.");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+
+        response.put("status", "success");
+        response.put("mailStatus", status);
+        return ResponseEntity.ok(response);
+    }
+
     // 인증번호 일치여부 확인 및 이메일 인증 처리
     @PostMapping("/checkCode")
     public ResponseEntity<Map<String, Object>> checkCode(@RequestBody VerificationRequest vr) {
         Map<String, Object> response = new HashMap<>();
+        rateLimitService.checkEmail(RateLimitService.CHECK_CODE, vr.getEmail());
 
         boolean isValid = verificationService.verifyCodeWithVO(vr);
 
@@ -185,5 +320,29 @@ public class AuthController {
         }
     }
 
+    // 소셜 로그인 콜백에서 세션에 보관한 (제공자가 확인한) 계정을 새 유저에 연결
+    // 제공자 이메일과 가입 이메일이 같고, 보관한 지 oauth.pending-ttl-minutes 이내일 때만 연결
+    // (같은 브라우저 세션에서 다른 사람이 가입해도 남의 소셜 계정이 연결되지 않도록)
+    private void linkPendingOAuthIdentity(HttpServletRequest request, User user) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return;
+        }
+        Object pending = session.getAttribute(OAuthProfile.PENDING_SESSION_KEY);
+        Object createdAt = session.getAttribute(OAuthProfile.PENDING_CREATED_AT_SESSION_KEY);
+        // 한 번의 가입에만 사용
+        session.removeAttribute(OAuthProfile.PENDING_SESSION_KEY);
+        session.removeAttribute(OAuthProfile.PENDING_CREATED_AT_SESSION_KEY);
 
-}
\ No newline at end of file
+        if (user.getUserId() == null
+                || !(pending instanceof OAuthProfile profile)
+                || !(createdAt instanceof Long created)
+                || System.currentTimeMillis() - created > TimeUnit.MINUTES.toMillis(oAuthPendingTtlMinutes)) {
+            return;
+        }
+        if (profile.getEmail().isEmpty() || !profile.getEmail().equalsIgnoreCase(user.getUserEmail())) {
+            return;
+        }
+        oAuthLoginService.linkIdentity(profile, user.getUserId());
+    }
+}
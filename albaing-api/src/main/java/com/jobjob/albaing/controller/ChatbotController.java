@@ -1,24 +1,33 @@
 package com.jobjob.albaing.controller;
 
-import com.jobjob.albaing.service.DialogflowService;
+import com.jobjob.albaing.service.ChatbotService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 // 커밋하기
 @RestController
 @RequestMapping("/chatbot")
 public class ChatbotController {
-    private final DialogflowService dialogflowService;
-    public ChatbotController(DialogflowService dialogflowService) {
-        this.dialogflowService = dialogflowService;
+    private final ChatbotService chatbotService;
+
+    @Value("${chatbot.stream.timeout-ms:15000}")
+    private long streamTimeoutMs;
+
+    public ChatbotController(ChatbotService chatbotService) {
+        this.chatbotService = chatbotService;
     }
     @PostMapping("/dialogflow")
     public ResponseEntity<Map<String, String>> handleChatbotMessage(@RequestParam String sessionId,
                                                                     @RequestParam String message) {
         try {
-            String responseMessage = dialogflowService.detectIntent(sessionId, message);
+            String responseMessage = chatbotService.answer(sessionId, message).getText();
             Map<String, String> response = new HashMap<>();
             response.put("response", responseMessage);
             return ResponseEntity.ok(response);
@@ -28,4 +37,50 @@ public class ChatbotController {
             return ResponseEntity.internalServerError().body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 스트리밍(SSE) 챗봇 응답. 요청 스레드는 바로 반환되고, 응답은 준비되는 대로 이벤트로 전송합니다.
+     * 이벤트 순서: ack → message → rich (0개 이상) → done  (실패 시 error → done)
+     * message 의 source: dialogflow | local | cache | error
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChatbotMessage(@RequestParam String sessionId,
+                                           @RequestParam String message) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        String requestId = UUID.randomUUID().toString();
+
+        if (!send(emitter, "ack", Map.of("requestId", requestId))) {
+            return emitter;
+        }
+
+        chatbotService.answerAsync(sessionId, message).whenComplete((answer, error) -> {
+            if (error != null) {
+                send(emitter, "error", Map.of("requestId", requestId, "response", "서버 오류가 발생했습니다. 잠시 후 다시 시도해주세요."));
+            } else {
+                boolean open = send(emitter, "message", Map.of(
+                        "requestId", requestId,
+                        "response", answer.getText(),
+                        "source", answer.getSource().name().toLowerCase()));
+                for (Map<String, Object> rich : answer.getRichMessages()) {
+                    if (!open) {
+                        break;
+                    }
+                    open = send(emitter, "rich", rich);
+                }
+            }
+            send(emitter, "done", Map.of("requestId", requestId));
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    // 클라이언트가 연결을 끊었으면 false
+    private boolean send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+}
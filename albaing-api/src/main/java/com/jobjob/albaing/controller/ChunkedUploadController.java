@@ -0,0 +1,91 @@
+package com.jobjob.albaing.controller;
+
+import com.jobjob.albaing.config.RateLimitInterceptor;
+import com.jobjob.albaing.exception.UploadRejectedException;
+import com.jobjob.albaing.service.ChunkedUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 분할 업로드 API
+ * 1. POST /api/uploads {"size": 전체 크기} → uploadId, chunkSize
+ * 2. PUT /api/uploads/{uploadId}?offset=N (본문: 조각, 헤더 X-Chunk-Sha256) → 끊기면 GET 으로 받은 조각 확인 후 이어서 전송
+ * 3. POST /api/uploads/{uploadId}/complete → url
+ *    또는 회원가입/정보 수정 요청에 uploadId 를 함께 보내면 완료 처리 후 이미지로 저장 (uploadId 는 한 번만 사용 가능)
+ * 세션은 처리한 서버 메모리에만 있으므로 여러 대로 운영할 때는 같은 서버로 가도록 sticky 라우팅이 필요합니다.
+ */
+@RestController
+@RequestMapping("/api/uploads")
+public class ChunkedUploadController {
+
+    public static final String CHUNK_SHA256_HEADER = "X-Chunk-Sha256";
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> create(@RequestBody Map<String, Long> body, HttpServletRequest request) {
+        try {
+            Long size = body.get("size");
+            // RateLimitInterceptor 가 판별한 IP (프록시 설정 반영)
+            Object clientIp = request.getAttribute(RateLimitInterceptor.CLIENT_IP_ATTRIBUTE);
+            String clientKey = clientIp != null ? clientIp.toString() : request.getRemoteAddr();
+            return ResponseEntity.ok(chunkedUploadService.create(size != null ? size : 0, clientKey));
+        } catch (UploadRejectedException e) {
+            return fail(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<Map<String, Object>> status(@PathVariable String uploadId) {
+        try {
+            return ResponseEntity.ok(chunkedUploadService.status(uploadId));
+        } catch (NoSuchElementException e) {
+            return fail(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    @PutMapping("/{uploadId}")
+    public ResponseEntity<Map<String, Object>> writeChunk(@PathVariable String uploadId,
+                                                          @RequestParam long offset,
+                                                          @RequestHeader(value = CHUNK_SHA256_HEADER, required = false) String sha256,
+                                                          HttpServletRequest request) throws IOException {
+        try {
+            // 본문을 메모리에 모으지 않고 바로 파일에 기록
+            return ResponseEntity.ok(chunkedUploadService.writeChunk(uploadId, offset, sha256, request.getInputStream()));
+        } catch (NoSuchElementException e) {
+            return fail(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (UploadRejectedException e) {
+            return fail(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<Map<String, Object>> complete(@PathVariable String uploadId) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "success");
+            response.put("url", chunkedUploadService.complete(uploadId));
+            return ResponseEntity.ok(response);
+        } catch (NoSuchElementException e) {
+            return fail(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (UploadRejectedException e) {
+            return fail(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static ResponseEntity<Map<String, Object>> fail(HttpStatus status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "fail");
+        response.put("message", message);
+        return ResponseEntity.status(status).body(response);
+    }
+}
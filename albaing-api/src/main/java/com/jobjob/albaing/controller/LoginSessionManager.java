@@ -0,0 +1,100 @@
+package com.jobjob.albaing.controller;
+
+import com.jobjob.albaing.config.AccessTokenFilter;
+import com.jobjob.albaing.exception.TokenRevocationFailedException;
+import com.jobjob.albaing.model.vo.SessionPrincipal;
+import com.jobjob.albaing.service.AccessTokenService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 상태 저장 방식을 한 곳에서 처리합니다.
+ * - 기본: HttpSession 에 SessionPrincipal 저장
+ * - auth.token.enabled=true: 서명 토큰을 발급하여 HttpOnly 쿠키로 전달 (세션 미사용)
+ */
+@Component
+public class LoginSessionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginSessionManager.class);
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    @Value("${auth.token.cookie-secure:false}")
+    private boolean cookieSecure;
+
+    /**
+     * 로그인 처리
+     * @return 토큰 모드이면 발급된 토큰, 세션 모드이면 null
+     */
+    public String login(HttpServletRequest request, HttpServletResponse response, SessionPrincipal principal) {
+        if (accessTokenService.isEnabled()) {
+            String token = accessTokenService.issue(principal);
+            writeTokenCookie(response, token, accessTokenService.getTtlSeconds());
+            return token;
+        }
+        request.getSession().setAttribute(SessionPrincipal.SESSION_KEY, principal);
+        return null;
+    }
+
+    // 현재 로그인 정보 (토큰 → 세션 순서로 확인, 세션을 새로 만들지 않음)
+    public SessionPrincipal current(HttpServletRequest request) {
+        Object fromToken = request.getAttribute(SessionPrincipal.SESSION_KEY);
+        if (fromToken instanceof SessionPrincipal principal) {
+            return principal;
+        }
+        HttpSession session = request.getSession(false);
+        return session != null ? (SessionPrincipal) session.getAttribute(SessionPrincipal.SESSION_KEY) : null;
+    }
+
+    // 프로필 수정 후 로그인 정보 갱신
+    public void update(HttpServletRequest request, HttpServletResponse response, SessionPrincipal principal) {
+        if (accessTokenService.isEnabled()) {
+            String oldToken = AccessTokenFilter.resolveToken(request);
+            if (oldToken != null) {
+                // 이전 토큰은 같은 사용자의 이전 프로필일 뿐이므로 폐기에 실패해도 갱신은 계속 (만료 시까지 유효)
+                try {
+                    accessTokenService.revoke(oldToken);
+                } catch (TokenRevocationFailedException e) {
+                    logger.warn("프로필 갱신 전 이전 토큰 폐기 실패: {}", e.getMessage());
+                }
+            }
+        }
+        login(request, response, principal);
+    }
+
+    // 토큰 폐기에 실패하면 TokenRevocationFailedException (쿠키/세션을 지우지 않고 로그아웃 실패로 응답)
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        if (accessTokenService.isEnabled()) {
+            String token = AccessTokenFilter.resolveToken(request);
+            if (token != null) {
+                accessTokenService.revoke(token);
+            }
+            writeTokenCookie(response, "", 0);
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.removeAttribute(SessionPrincipal.SESSION_KEY);
+            session.invalidate(); // 세션 무효화
+        }
+    }
+
+    private void writeTokenCookie(HttpServletResponse response, String token, long maxAgeSeconds) {
+        ResponseCookie cookie = ResponseCookie.from(AccessTokenFilter.TOKEN_COOKIE, token)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAgeSeconds)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -0,0 +1,202 @@
+package com.jobjob.albaing.controller;
+
+import com.jobjob.albaing.service.FileService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 업로드 파일 제공 (/media/{내용 키})
+ * - 파일 이름이 내용 해시이므로 원본/썸네일은 강한 ETag + 1년 immutable 캐시
+ * - If-None-Match 가 맞으면 304, 단일 Range 요청은 206
+ * - 본문은 Tomcat sendfile 로 넘겨 커널이 직접 소켓으로 보냄 (힙/CPU 사용 없음)
+ *   sendfile 을 쓸 수 없으면 FileChannel.transferTo 로 전송
+ */
+@RestController
+@RequestMapping("/media")
+public class MediaController {
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    // manifest 는 썸네일 생성 후 내용이 바뀔 수 있으므로 짧게 캐시하고 재검증
+    private static final String MANIFEST_CACHE = "public, max-age=60, must-revalidate";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 이보다 작은 응답은 sendfile 준비 비용이 더 크므로 바로 씀 (Tomcat 기본값과 동일)
+    @Value("${media.sendfile-min-bytes:49152}")
+    private long sendfileMinBytes;
+
+    @RequestMapping(value = "/{fileName}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(@PathVariable String fileName,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        Path path = fileService.resolveMedia(fileName);
+        BasicFileAttributes attributes;
+        try {
+            attributes = path != null ? Files.readAttributes(path, BasicFileAttributes.class) : null;
+        } catch (NoSuchFileException e) {
+            attributes = null;
+        }
+        if (attributes == null || !attributes.isRegularFile()) {
+            record("not_found");
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = attributes.size();
+        boolean manifest = fileName.endsWith(".json");
+        String etag = manifest
+                ? "W/\"" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + Long.toHexString(length) + "\""
+                : "\"" + fileName.substring(0, fileName.lastIndexOf('.')) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, manifest ? MANIFEST_CACHE : IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, attributes.lastModifiedTime().toMillis());
+
+        // 1. 조건부 요청 (캐시가 최신이면 본문 없이 304)
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            record("not_modified");
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 2. Range 요청 (If-Range 가 있으면 ETag 가 같을 때만 부분 응답)
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || (!manifest && ifRange.equals(etag)))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds != null && bounds.length == 0) {
+                record("unsatisfiable");
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            record("head");
+            return;
+        }
+
+        // 3. 본문 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && count >= sendfileMinBytes) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            record("sendfile");
+            return;
+        }
+        try (FileChannel file = FileChannel.open(path)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;  // 전송 중 파일이 줄어든 경우
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+        record("stream");
+    }
+
+    // If-None-Match 비교 (약한 비교, * 허용)
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || (trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단일 byte range 해석
+     * @return {시작, 끝} / 만족할 수 없는 범위면 빈 배열 / 해석할 수 없거나 여러 범위면 null (전체 응답)
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 마지막 N 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return new long[0];
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            if (!last.isEmpty() && Long.parseLong(last) < start) {
+                return null;
+            }
+            if (start >= length) {
+                return new long[0];
+            }
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("media.requests", "result", result).increment();
+    }
+}
@@ -0,0 +1,95 @@
+package com.jobjob.albaing.controller;
+
+import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.model.vo.OAuthProfile;
+import com.jobjob.albaing.model.vo.SessionPrincipal;
+import com.jobjob.albaing.service.OAuthLoginService;
+import com.jobjob.albaing.service.OAuthProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.view.RedirectView;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 소셜 로그인 (카카오, 네이버 등) 공통 처리.
+ * 제공자별 차이는 OAuthProvider 어댑터가 담당합니다.
+ */
+@RestController
+@RequestMapping("/oauth/{provider}")
+public class OAuthController {
+
+    @Autowired
+    private OAuthLoginService oAuthLoginService;
+
+    @Autowired
+    private LoginSessionManager loginSessionManager;
+
+    @GetMapping("/login")
+    public RedirectView login(@PathVariable("provider") String provider) {
+        return new RedirectView(provider(provider).getAuthorizationUrl());
+    }
+
+    @GetMapping("/callback")
+    public RedirectView handleCallback(@PathVariable("provider") String provider,
+                                       @RequestParam("code") String code,
+                                       HttpServletRequest request, HttpServletResponse response) {
+        OAuthProvider oAuthProvider = provider(provider);
+
+        // 1️⃣ 토큰 발급 + 사용자 정보 조회
+        OAuthProfile profile = oAuthProvider.fetchProfile(code);
+        if (profile == null) {
+            return new RedirectView("http://localhost:3000/error?message=Failed to fetch user info");
+        }
+
+        // 2️⃣ 가입한 사용자는 로그인 후 메인으로 리다이렉트
+        User user = oAuthLoginService.findUser(profile);
+        if (user != null) {
+            loginSessionManager.login(request, response, SessionPrincipal.of(user));
+            return new RedirectView("http://localhost:3000/");
+        }
+
+        // 3️⃣ 미가입 사용자는 회원가입으로 리다이렉트 (가입 완료 시 계정 연결용으로 세션에 보관)
+        HttpSession session = request.getSession();
+        session.setAttribute(OAuthProfile.PENDING_SESSION_KEY, profile);
+        session.setAttribute(OAuthProfile.PENDING_CREATED_AT_SESSION_KEY, System.currentTimeMillis());
+
+        String frontendRedirectUri = "http://localhost:3000/register/person"
+                + "?nickname=" + URLEncoder.encode(profile.getNickname(), StandardCharsets.UTF_8)
+                + "&email=" + URLEncoder.encode(profile.getEmail(), StandardCharsets.UTF_8)
+                + "&" + oAuthProvider.getRegisterParam() + "=" + profile.getProviderUserId();
+
+        if (!profile.getGender().isEmpty()) {
+            frontendRedirectUri += "&gender=" + profile.getGender();
+        }
+        if (!profile.getBirthday().isEmpty()) {
+            frontendRedirectUri += "&birthday=" + profile.getBirthday();
+        }
+        if (!profile.getBirthyear().isEmpty()) {
+            frontendRedirectUri += "&birthyear=" + profile.getBirthyear();
+        }
+        if (!profile.getProfileImage().isEmpty()) {
+            frontendRedirectUri += "&profileImage=" + URLEncoder.encode(profile.getProfileImage(), StandardCharsets.UTF_8);
+        }
+
+        return new RedirectView(frontendRedirectUri);
+    }
+
+    private OAuthProvider provider(String name) {
+        OAuthProvider provider = oAuthLoginService.getProvider(name);
+        if (provider == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "지원하지 않는 로그인 방식입니다.");
+        }
+        return provider;
+    }
+}
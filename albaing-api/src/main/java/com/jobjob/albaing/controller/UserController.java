@@ -1,8 +1,14 @@
 package com.jobjob.albaing.controller;
 
 import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.exception.UploadRejectedException;
+import com.jobjob.albaing.model.vo.SessionPrincipal;
+import com.jobjob.albaing.service.ChunkedUploadService;
 import com.jobjob.albaing.service.FileService;
+import com.jobjob.albaing.service.SessionProfileService;
 import com.jobjob.albaing.service.UserServiceImpl;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +16,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/user")
@@ -23,12 +31,23 @@ public class UserController {
     private ReviewServiceImpl reviewService;
     @Autowired
     private FileService fileService;
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+    @Autowired
+    private SessionProfileService sessionProfileService;
+    @Autowired
+    private LoginSessionManager loginSessionManager;
 
     // 유저 회원탈퇴
     @DeleteMapping("/{userId}")
     public ResponseEntity<?> deleteUser(@PathVariable Long userId) {
         try {
+            User existing = userService.getUserById(userId);
             userService.deleteUser(userId);
+            sessionProfileService.evictUser(userId);
+            if (existing != null) {
+                fileService.release(existing.getUserProfileImage());
+            }
             return ResponseEntity.ok("회원 탈퇴 완료");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("탈퇴 실패");
@@ -38,7 +57,11 @@ public class UserController {
     // 마이페이지 - 사용자 정보 조회
     @GetMapping("/{userId}")
     public User getUserById(@PathVariable Long userId) {
-        return userService.getUserById(userId);
+        User user = userService.getUserById(userId);
+        if (user == null) {
+            return null;
+        }
+        return user.withUserProfileImageVariants(fileService.imageVariantsOf(user.getUserProfileImage()));
     }
 
     // 마이페이지 - 사용자 정보 수정
@@ -46,7 +69,10 @@ public class UserController {
     public ResponseEntity<?> updateUser(
             @PathVariable Long userId,
             @RequestPart(value = "user", required = false) User user,
-            @RequestPart(value = "userProfileImage", required = false) MultipartFile userProfileImage
+            @RequestPart(value = "userProfileImage", required = false) MultipartFile userProfileImage,
+            @RequestParam(value = "uploadId", required = false) String uploadId,
+            HttpServletRequest request,
+            HttpServletResponse response
     ) {
         try {
             // 기존 정보 업데이트
@@ -54,28 +80,55 @@ public class UserController {
                 user.setUserId(userId);
 
                 // 로고 업로드가 있는 경우
-                if (userProfileImage != null && !userProfileImage.isEmpty()) {
-                    // 파일 크기 제한 (5MB)
-                    if (userProfileImage.getSize() > 5 * 1024 * 1024) {
-                        return ResponseEntity.badRequest().body("로고 파일 크기는 5MB를 초과할 수 없습니다.");
+                boolean hasFile = userProfileImage != null && !userProfileImage.isEmpty();
+                boolean hasUpload = uploadId != null && !uploadId.isBlank();
+                User existing = userService.getUserById(userId);
+                String previousImage = existing != null ? existing.getUserProfileImage() : null;
+                // 이번 요청에서 참조를 추가한 이미지 (저장에 실패하면 해제)
+                String acquiredImage = null;
+                boolean replaced;
+                try {
+                    if (hasFile || hasUpload) {
+                        // 파일 업로드 및 URL 생성 (크기/형식은 저장 중에 검사), 분할 업로드면 완료 처리
+                        acquiredImage = hasFile
+                                ? fileService.uploadFile(userProfileImage)
+                                : chunkedUploadService.consume(uploadId);
+                        user.setUserProfileImage(acquiredImage);
+                        replaced = true;
+                    } else {
+                        // 본문의 URL 이 그대로 저장되므로 바뀐 경우 새 URL 의 참조 추가
+                        replaced = !Objects.equals(previousImage, user.getUserProfileImage());
+                        if (replaced) {
+                            fileService.retain(user.getUserProfileImage());
+                            acquiredImage = user.getUserProfileImage();
+                        }
                     }
 
-                    // 파일 타입 검증
-                    String contentType = userProfileImage.getContentType();
-                    if (contentType == null || !contentType.startsWith("image/")) {
-                        return ResponseEntity.badRequest().body("이미지 파일만 업로드 가능합니다.");
+                    userService.updateUser(user);
+                    acquiredImage = null;
+                } finally {
+                    if (acquiredImage != null) {
+                        fileService.release(acquiredImage);
                     }
-
-                    // 파일 업로드 및 URL 생성
-                    String logoUrl = fileService.uploadFile(userProfileImage);
-                    user.setUserProfileImage(logoUrl);
+                }
+                sessionProfileService.evictUser(userId);
+                // 교체된 이전 이미지 참조 해제 (같은 내용을 다시 올린 경우에도 참조 수는 맞음)
+                if (replaced && previousImage != null) {
+                    fileService.release(previousImage);
                 }
 
-                userService.updateUser(user);
+                // 본인 세션이면 로그인 정보 갱신 (checkLogin ETag 변경)
+                SessionPrincipal principal = loginSessionManager.current(request);
+                if (principal != null && !principal.isCompany() && principal.getId() == userId) {
+                    loginSessionManager.update(request, response,
+                            principal.refresh(user.getUserName(), user.getUserProfileImage()));
+                }
             }
 
             return ResponseEntity.ok(user);
 
+        } catch (UploadRejectedException | NoSuchElementException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("회사 정보 업데이트 중 오류 발생: " + e.getMessage());
@@ -7,6 +7,7 @@ import org.springframework.data.annotation.Id;
 
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -30,6 +31,10 @@ public class Company {
     private LocalDateTime companyCreatedAt;
     private LocalDateTime companyUpdatedAt;
     private String companyLogo;
+    // 썸네일 URL (최대 변 길이 → URL, 원본은 "original"), DB 컬럼 아님
+    // 캐시된 프로필을 바꾸지 않도록 응답마다 withCompanyLogoVariants 로 복사본을 만들어 채움
+    @With
+    private Map<String, String> companyLogoVariants;
     private String companyDescription;
     private String newPassword;
 
@@ -7,6 +7,7 @@ import org.springframework.data.annotation.Id;
 
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -25,6 +26,10 @@ public class User {
     private String userPhone;
     private String userAddress;
     private String userProfileImage;
+    // 썸네일 URL (최대 변 길이 → URL, 원본은 "original"), DB 컬럼 아님
+    // 캐시된 프로필을 바꾸지 않도록 응답마다 withUserProfileImageVariants 로 복사본을 만들어 채움
+    @With
+    private Map<String, String> userProfileImageVariants;
     private LocalDateTime userCreatedAt;
     private LocalDateTime userUpdatedAt;
     private Boolean userTermsAgreement;
@@ -0,0 +1,12 @@
+package com.jobjob.albaing.exception;
+
+/**
+ * 비밀번호 해싱 전용 스레드풀의 대기열이 가득 찼거나 대기 시간이 초과되었을 때 발생합니다.
+ * ApiExceptionHandler 에서 429 (Too Many Requests) 로 변환됩니다.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobjob.albaing.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도를 초과했을 때 발생합니다.
+ * ApiExceptionHandler 에서 429 (Too Many Requests) + Retry-After 헤더로 변환됩니다.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.jobjob.albaing.exception;
+
+/**
+ * 토큰을 폐기 목록에 등록하지 못했을 때 발생합니다 (목록이 가득 찼거나 저장소 오류).
+ * 폐기되지 않은 토큰이 로그아웃 후에도 유효하게 남지 않도록 로그아웃을 실패로 처리하며,
+ * ApiExceptionHandler 에서 503 (Service Unavailable) 으로 변환됩니다.
+ */
+public class TokenRevocationFailedException extends RuntimeException {
+
+    public TokenRevocationFailedException(String message) {
+        super(message);
+    }
+
+    public TokenRevocationFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
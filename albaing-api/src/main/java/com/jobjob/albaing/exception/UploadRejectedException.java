@@ -0,0 +1,12 @@
+package com.jobjob.albaing.exception;
+
+/**
+ * 업로드 파일이 크기 제한을 넘거나 허용되지 않는 형식일 때 발생합니다 (저장 도중 즉시 중단).
+ * 기존 컨트롤러의 IllegalArgumentException 처리(400)에 그대로 걸리도록 IllegalArgumentException 을 상속합니다.
+ */
+public class UploadRejectedException extends IllegalArgumentException {
+
+    public UploadRejectedException(String message) {
+        super(message);
+    }
+}
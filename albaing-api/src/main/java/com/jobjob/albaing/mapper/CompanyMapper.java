@@ -2,9 +2,11 @@ package com.jobjob.albaing.mapper;
 
 import com.jobjob.albaing.dto.Company;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.data.repository.query.Param;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +29,14 @@ public interface CompanyMapper {
     // 회사 전화번호 존재여부 확인
     boolean isCompanyPhoneExist(String companyPhone);
 
+    // 전체 회사 이메일/전화번호 스트리밍 조회 (블룸 필터 생성용)
+    void scanCompanyIdentities(ResultHandler<Map<String, Object>> handler);
+
+    // afterId 이후 가입했거나 updatedSince 이후 수정된 회사만 스트리밍 조회 (블룸 필터 주기 갱신용)
+    void scanCompanyIdentitiesSince(@Param("afterId") long afterId,
+                                    @Param("updatedSince") LocalDateTime updatedSince,
+                                    ResultHandler<Map<String, Object>> handler);
+
     // 회사 이메일 찾기
     Company findCompanyEmail(String companyName, String companyPhone);
 
@@ -36,13 +46,18 @@ public interface CompanyMapper {
     void updateCompanyPassword(@Param("companyEmail") String companyEmail,
                                @Param("encodedPassword") String encodedPassword);
 
+    // 재해싱된 비밀번호 저장 (기존 해시가 그대로인 경우에만 갱신)
+    int rehashCompanyPassword(@Param("companyEmail") String companyEmail,
+                              @Param("oldPassword") String oldPassword,
+                              @Param("encodedPassword") String encodedPassword);
+
     // 회사 상세 정보 불러오기
     Company companyDetail(long companyId);
 
     //회사 상세 정보 수정
     void updateDetail(Company company);
 
-    //회사 로고 수정
+    //회사 로고 수정 (교체된 이전 로고는 FileService.release 로 참조 해제)
     int updateLogo(long companyId, String companyLogo);
 
     // 모든 회사 목록 조회
@@ -0,0 +1,29 @@
+package com.jobjob.albaing.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.data.repository.query.Param;
+
+@Mapper
+public interface FileBlobMapper {
+
+    // 참조 추가 (처음 저장된 내용이면 행 생성)
+    int acquire(@Param("contentKey") String contentKey,
+                @Param("sizeBytes") long sizeBytes);
+
+    // 이미 저장된 내용에 참조 추가 (행이 없으면 0)
+    int retain(@Param("contentKey") String contentKey);
+
+    // 참조 해제 (0 이 되면 해제 시각 기록)
+    int release(@Param("contentKey") String contentKey);
+
+    // 해시가 같은 내용 중 아직 참조가 있거나 해제 후 유예 기간이 지나지 않은 행 수 (0 이면 정리 가능)
+    int countHeld(@Param("hash") String hash,
+                  @Param("graceHours") long graceHours);
+
+    // 정리된 파일의 행 삭제
+    int delete(@Param("contentKey") String contentKey);
+
+    // 업로드 파일을 참조하는 모든 값 (프로필 이미지, 기업 로고), 한 행씩 스트리밍
+    Cursor<String> streamReferences();
+}
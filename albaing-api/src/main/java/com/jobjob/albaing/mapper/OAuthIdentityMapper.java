@@ -0,0 +1,18 @@
+package com.jobjob.albaing.mapper;
+
+import com.jobjob.albaing.dto.User;
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.data.repository.query.Param;
+
+@Mapper
+public interface OAuthIdentityMapper {
+
+    // 소셜 계정으로 유저 조회
+    User findUserByIdentity(@Param("provider") String provider,
+                            @Param("providerUserId") String providerUserId);
+
+    // 소셜 계정 연결
+    int linkIdentity(@Param("provider") String provider,
+                     @Param("providerUserId") String providerUserId,
+                     @Param("userId") long userId);
+}
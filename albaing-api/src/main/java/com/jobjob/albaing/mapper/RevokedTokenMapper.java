@@ -0,0 +1,29 @@
+package com.jobjob.albaing.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Mapper
+public interface RevokedTokenMapper {
+
+    // 폐기 등록 (이미 있으면 무시)
+    void insertRevoked(@Param("jti") String jti, @Param("expiresAt") long expiresAt);
+
+    // since 이후 폐기된 항목 중 만료되지 않은 것만 스트리밍 조회 (since 가 null 이면 전체, 컬럼: jti, exp)
+    void scanRevokedSince(@Param("since") LocalDateTime since,
+                          @Param("now") long now,
+                          ResultHandler<Map<String, Object>> handler);
+
+    // 만료되지 않은 폐기 항목 여부 (주기 갱신이 오래 실패했을 때 직접 조회)
+    boolean isRevoked(@Param("jti") String jti, @Param("now") long now);
+
+    // 만료된 항목 일괄 삭제 (batchSize 건씩)
+    int deleteExpired(@Param("now") long now, @Param("batchSize") int batchSize);
+
+    // DB 서버 기준 현재 시각 (밀리초)
+    LocalDateTime currentTimestamp();
+}
@@ -2,8 +2,10 @@ package com.jobjob.albaing.mapper;
 
 import com.jobjob.albaing.dto.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.Map;
 
@@ -24,6 +26,17 @@ public interface UserMapper {
     // 유저 전화번호 중복체크
     boolean isUserPhoneExist(String phone);
 
+    // 전체 유저 이메일/전화번호 스트리밍 조회 (블룸 필터 생성용)
+    void scanUserIdentities(ResultHandler<Map<String, Object>> handler);
+
+    // afterId 이후 가입했거나 updatedSince 이후 수정된 유저만 스트리밍 조회 (블룸 필터 주기 갱신용)
+    void scanUserIdentitiesSince(@Param("afterId") long afterId,
+                                 @Param("updatedSince") LocalDateTime updatedSince,
+                                 ResultHandler<Map<String, Object>> handler);
+
+    // DB 서버 기준 현재 시각
+    LocalDateTime currentTimestamp();
+
     // 유저 이메일 찾기
     User findUserEmail(String userName, String userPhone);
 
@@ -31,6 +44,11 @@ public interface UserMapper {
     void updateUserPassword(@Param("userEmail") String userEmail,
                             @Param("encodedPassword") String encodedPassword);
 
+    // 재해싱된 비밀번호 저장 (기존 해시가 그대로인 경우에만 갱신)
+    int rehashUserPassword(@Param("userEmail") String userEmail,
+                           @Param("oldPassword") String oldPassword,
+                           @Param("encodedPassword") String encodedPassword);
+
     // 유저 회원탈퇴
     void deleteUser(Long userId);
 
@@ -0,0 +1,30 @@
+package com.jobjob.albaing.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.data.repository.query.Param;
+
+@Mapper
+public interface VerificationMapper {
+
+    // 인증 코드 저장 (있으면 코드/만료시각 갱신, 인증 여부 초기화)
+    void upsertCode(@Param("email") String email,
+                    @Param("code") int code,
+                    @Param("expiresAt") long expiresAt);
+
+    // 인증 완료 처리 (없거나 만료된 항목이면 새 만료시각으로 저장)
+    void upsertVerified(@Param("email") String email,
+                        @Param("code") int code,
+                        @Param("expiresAt") long expiresAt,
+                        @Param("now") long now);
+
+    // 만료되지 않은 코드 조회 (없으면 null)
+    Integer findValidCode(@Param("email") String email, @Param("now") long now);
+
+    // 만료되지 않은 항목의 인증 여부 (없으면 null)
+    Boolean findValidVerified(@Param("email") String email, @Param("now") long now);
+
+    void deleteByEmail(String email);
+
+    // 만료된 항목 일괄 삭제 (batchSize 건씩)
+    int deleteExpired(@Param("now") long now, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,47 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 챗봇 응답.
+ * contextual 이면 세션 문맥(출력 컨텍스트, 미완성 파라미터)에 따라 달라지는 응답이므로 다른 사용자와 공유하지 않습니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class ChatbotAnswer {
+
+    public enum Source {
+        DIALOGFLOW,     // 원격 Dialogflow 응답
+        LOCAL,          // 로컬 인텐트 분류기 응답
+        CACHE,          // 응답 캐시 (원래는 Dialogflow 응답)
+        ERROR           // 원격 호출 실패/타임아웃
+    }
+
+    private final String text;
+    private final String intent;
+    private final float confidence;
+    private final boolean fallback;     // 인텐트 미인식 또는 오류 응답
+    private final boolean contextual;
+    private final Source source;
+    // 텍스트 외 응답 메시지 (type: text | quickReplies | card | image)
+    private final List<Map<String, Object>> richMessages;
+
+    public static ChatbotAnswer error(String text) {
+        return new ChatbotAnswer(text, "", 0f, true, false, Source.ERROR, List.of());
+    }
+
+    public static ChatbotAnswer local(String intent, String text, double confidence) {
+        return new ChatbotAnswer(text, intent, (float) confidence, false, false, Source.LOCAL, List.of());
+    }
+
+    // 캐시에 보관할 사본 (출처만 CACHE)
+    public ChatbotAnswer cached() {
+        return new ChatbotAnswer(text, intent, confidence, fallback, contextual, Source.CACHE, richMessages);
+    }
+}
@@ -0,0 +1,19 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 렌더링이 끝난 메일 내용.
+ * encodedSubject 는 RFC 2047 로 미리 인코딩된 제목 헤더 값입니다.
+ */
+@Getter
+@ToString(exclude = "htmlBody")
+@AllArgsConstructor
+public class MailContent {
+
+    private final String subject;
+    private final String encodedSubject;
+    private final String htmlBody;
+}
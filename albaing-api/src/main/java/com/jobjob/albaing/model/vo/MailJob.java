@@ -0,0 +1,59 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 발송 대기열에 들어간 메일 한 건.
+ * 상태/시도 횟수는 워커 스레드에서 갱신되고 상태 조회 API 에서 읽습니다.
+ */
+@Getter
+@ToString(exclude = "content")
+public class MailJob {
+
+    public enum Status {
+        QUEUED, SENDING, RETRYING, SENT, FAILED
+    }
+
+    private final String id;
+    private final String to;
+    private final MailContent content;
+    private final long createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile int attempts;
+    private volatile String lastError;
+    private volatile long finishedAt;
+
+    public MailJob(String id, String to, MailContent content) {
+        this.id = id;
+        this.to = to;
+        this.content = content;
+        this.createdAt = System.currentTimeMillis();
+    }
+
+    public void markSending() {
+        attempts++;
+        status = Status.SENDING;
+    }
+
+    public void markRetrying(String error) {
+        lastError = error;
+        status = Status.RETRYING;
+    }
+
+    public void markSent() {
+        status = Status.SENT;
+        finishedAt = System.currentTimeMillis();
+    }
+
+    public void markFailed(String error) {
+        lastError = error;
+        status = Status.FAILED;
+        finishedAt = System.currentTimeMillis();
+    }
+
+    public boolean isFinished() {
+        return status == Status.SENT || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 메일 템플릿 목록 (resources/templates/{path}.html)
+ * 템플릿은 기동 시 한 번만 렌더링/분할되므로 th:text 변수 치환만 사용할 수 있습니다. (조건문, 반복문 X)
+ */
+@Getter
+public enum MailTemplate {
+
+    VERIFICATION_CODE("mail/verification-code", "[알바잉] 이메일 인증번호", List.of("code", "ttlMinutes")),
+    PASSWORD_CHANGED("mail/password-changed", "[알바잉] 비밀번호 변경 안내", List.of("name", "email")),
+    COMPANY_APPROVAL("mail/company-approval", "[알바잉] 기업 회원 승인 안내", List.of("companyName", "result", "detail"));
+
+    private final String path;
+    private final String subject;
+    private final List<String> variables;
+
+    MailTemplate(String path, String subject, List<String> variables) {
+        this.path = path;
+        this.subject = subject;
+        this.variables = variables;
+    }
+}
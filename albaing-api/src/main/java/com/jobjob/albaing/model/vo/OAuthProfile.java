@@ -0,0 +1,33 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * 소셜 로그인 제공자에서 받은 사용자 정보 (제공자별 응답 형식을 공통 형태로 변환).
+ * 값이 없는 항목은 빈 문자열입니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class OAuthProfile implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // 가입 전 소셜 계정 정보 세션 키 (회원가입 완료 시 계정 연결에 사용)
+    public static final String PENDING_SESSION_KEY = "pendingOAuthProfile";
+    // 위 정보를 보관한 시각 (epoch ms), oauth.pending-ttl-minutes 가 지나면 연결하지 않음
+    public static final String PENDING_CREATED_AT_SESSION_KEY = "pendingOAuthProfileCreatedAt";
+
+    private final String provider;
+    private final String providerUserId;
+    private final String email;
+    private final String nickname;
+    private final String profileImage;
+    private final String gender;
+    private final String birthday;     // MMdd
+    private final String birthyear;
+}
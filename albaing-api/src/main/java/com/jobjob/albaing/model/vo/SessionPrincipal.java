@@ -0,0 +1,84 @@
+package com.jobjob.albaing.model.vo;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.jobjob.albaing.dto.Company;
+import com.jobjob.albaing.dto.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 세션에 저장되는 로그인 정보.
+ * User/Company 전체(비밀번호 해시, 주소 등) 대신 화면 렌더링에 필요한 최소 정보만 담습니다.
+ * 전체 프로필이 필요하면 SessionProfileService 를 통해 조회합니다.
+ * JSON 응답(checkLogin)에는 화면이 읽던 기존 User/Company 필드 이름도 함께 담습니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class SessionPrincipal implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // 세션 속성 키
+    public static final String SESSION_KEY = "loginPrincipal";
+
+    public enum Role {
+        USER, ADMIN, COMPANY
+    }
+
+    private final long id;
+    private final Role role;
+    private final String displayName;
+    private final String avatarUrl;
+    private final long version;     // 세션 중 프로필이 수정될 때마다 증가
+
+    public static SessionPrincipal of(User user) {
+        Role role = Boolean.TRUE.equals(user.getUserIsAdmin()) ? Role.ADMIN : Role.USER;
+        return new SessionPrincipal(user.getUserId(), role, user.getUserName(), user.getUserProfileImage(), 1L);
+    }
+
+    public static SessionPrincipal of(Company company) {
+        return new SessionPrincipal(company.getCompanyId(), Role.COMPANY, company.getCompanyName(), company.getCompanyLogo(), 1L);
+    }
+
+    // 프로필 수정 후 세션 갱신용 (version 증가)
+    public SessionPrincipal refresh(String displayName, String avatarUrl) {
+        return new SessionPrincipal(id, role, displayName, avatarUrl, version + 1);
+    }
+
+    @JsonIgnore
+    public boolean isCompany() {
+        return role == Role.COMPANY;
+    }
+
+    // 기존 화면 호환용 필드 (userId, userIsAdmin, userName, userProfileImage / companyId, companyName, companyLogo)
+    @JsonAnyGetter
+    public Map<String, Object> getLegacyFields() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (isCompany()) {
+            fields.put("companyId", id);
+            fields.put("companyName", displayName);
+            fields.put("companyLogo", avatarUrl);
+        } else {
+            fields.put("userId", id);
+            fields.put("userIsAdmin", role == Role.ADMIN);
+            fields.put("userName", displayName);
+            fields.put("userProfileImage", avatarUrl);
+        }
+        return fields;
+    }
+
+    // checkLogin 조건부 요청(If-None-Match)용 ETag
+    @JsonIgnore
+    public String getEtag() {
+        return "\"" + role.name().toLowerCase() + "-" + id + "-" + version + "-"
+                + Integer.toHexString(Objects.hash(displayName, avatarUrl)) + "\"";
+    }
+}
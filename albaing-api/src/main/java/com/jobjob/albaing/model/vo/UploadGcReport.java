@@ -0,0 +1,69 @@
+package com.jobjob.albaing.model.vo;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드 파일 정리 결과.
+ * dryRun 이면 삭제하지 않고 삭제 대상만 집계합니다.
+ */
+@Getter
+@ToString
+public final class UploadGcReport {
+
+    private final boolean dryRun;
+    private final long startedAt;
+    private long finishedAt;
+    private long references;        // DB 에서 읽은 참조 수
+    private long scannedFiles;
+    private long orphanFiles;       // 참조가 없고 유예 기간이 지난 파일
+    private long orphanBytes;
+    private long deletedFiles;
+    private long deletedBytes;
+    private long recentFiles;       // 참조는 없지만 유예 기간 안이라 남긴 파일
+    private long heldFiles;         // 참조는 없지만 file_blobs 참조 수가 남아 있거나 해제 직후라 남긴 파일
+    private final List<String> samples = new ArrayList<>();
+    private final int sampleLimit;
+
+    public UploadGcReport(boolean dryRun, int sampleLimit) {
+        this.dryRun = dryRun;
+        this.sampleLimit = sampleLimit;
+        this.startedAt = System.currentTimeMillis();
+    }
+
+    public void addReference() {
+        references++;
+    }
+
+    public void addScanned() {
+        scannedFiles++;
+    }
+
+    public void addRecent() {
+        recentFiles++;
+    }
+
+    public void addHeld() {
+        heldFiles++;
+    }
+
+    public void addOrphan(String path, long size) {
+        orphanFiles++;
+        orphanBytes += size;
+        if (samples.size() < sampleLimit) {
+            samples.add(path);
+        }
+    }
+
+    public void addDeleted(long size) {
+        deletedFiles++;
+        deletedBytes += size;
+    }
+
+    public void finish() {
+        finishedAt = System.currentTimeMillis();
+    }
+}
@@ -1,40 +1,32 @@
 package com.jobjob.albaing.model.vo;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.ToString;
 
-import java.time.LocalDateTime;
-
 
+/**
+ * 인증 코드 저장 항목.
+ * 이메일은 저장소의 키로만 사용하고, 항목에는 숫자 코드와 만료 시각(epoch millis)만 보관합니다.
+ */
 @Getter
-@NoArgsConstructor
-@Setter
 @ToString
-public class VerificationData {
-    private String email;       // 이메일
-    private String code;        // 인증 코드
-    private LocalDateTime expiryTime; // 인증 코드 만료 시간
-    private boolean verified;   // 인증 여부
+@AllArgsConstructor
+public final class VerificationData {
 
-    // 생성자
-    public VerificationData(String email, String code) {
-        this.email = email;
-        this.code = code;
-        this.expiryTime = LocalDateTime.now().plusMinutes(10); // 10분 후 만료
-        this.verified = false;
-    }
+    // 코드 없이 인증 완료 상태만 저장할 때 (소셜 로그인 가입 등)
+    public static final int NO_CODE = -1;
 
-    // 이메일 인증 완료 생성자
-    public VerificationData(String email, boolean verified) {
-        this.email = email;
-        this.verified = verified;
-        this.expiryTime = LocalDateTime.now().plusMinutes(10); // 10분 후 만료
-    }
+    private final int code;             // 인증 코드
+    private final long expiresAt;       // 만료 시각 (epoch millis)
+    private final boolean verified;     // 인증 여부
 
     // 인증 코드 만료 여부 확인
-    public boolean isExpired() {
-        return LocalDateTime.now().isAfter(expiryTime);
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
     }
 
+    // 이메일 인증 완료 처리된 항목 (만료 시각 유지)
+    public VerificationData withVerified() {
+        return new VerificationData(code, expiresAt, true);
+    }
 }
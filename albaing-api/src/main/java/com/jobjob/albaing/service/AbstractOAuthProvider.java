@@ -0,0 +1,90 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.OAuthProfile;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인가 코드 → 토큰 → 사용자 정보 흐름은 모든 제공자가 공유하고,
+ * 제공자별로 다른 사용자 정보 응답 형식만 parseProfile 에서 처리합니다.
+ */
+public abstract class AbstractOAuthProvider implements OAuthProvider {
+
+    @Autowired
+    private OAuthHttpService oAuthHttpService;
+
+    private final String name;
+    private final String clientId;
+    private final String clientSecret;
+    private final String redirectUri;
+    private final String authorizeUrl;
+    private final String tokenUrl;
+    private final String userInfoUrl;
+    private final String scope;
+
+    protected AbstractOAuthProvider(String name, String clientId, String clientSecret, String redirectUri,
+                                    String authorizeUrl, String tokenUrl, String userInfoUrl, String scope) {
+        this.name = name;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.redirectUri = redirectUri;
+        this.authorizeUrl = authorizeUrl;
+        this.tokenUrl = tokenUrl;
+        this.userInfoUrl = userInfoUrl;
+        this.scope = scope;
+    }
+
+    // 사용자 정보 응답 → 공통 프로필 (필수 정보가 없으면 null)
+    protected abstract OAuthProfile parseProfile(Map<String, Object> userInfo);
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getRegisterParam() {
+        return name + "Id";
+    }
+
+    @Override
+    public String getAuthorizationUrl() {
+        return authorizeUrl + "?response_type=code"
+                + "&client_id=" + clientId
+                + "&redirect_uri=" + redirectUri
+                + "&scope=" + URLEncoder.encode(scope, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public OAuthProfile fetchProfile(String code) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("grant_type", "authorization_code");
+        params.put("client_id", clientId);
+        params.put("redirect_uri", redirectUri);
+        params.put("code", code);
+        params.put("client_secret", clientSecret);
+
+        Map<String, Object> tokenResponse = oAuthHttpService.postForm(name, "token", tokenUrl, params);
+        if (tokenResponse == null || !(tokenResponse.get("access_token") instanceof String accessToken)) {
+            return null;
+        }
+
+        Map<String, Object> userInfo = oAuthHttpService.postWithBearer(name, "user-info", userInfoUrl, accessToken);
+        return userInfo != null ? parseProfile(userInfo) : null;
+    }
+
+    protected static String text(Map<String, Object> source, String key) {
+        Object value = source != null ? source.get(key) : null;
+        return value != null ? value.toString() : "";
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static Map<String, Object> child(Map<String, Object> source, String key) {
+        Object value = source.get(key);
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+}
@@ -0,0 +1,31 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.SessionPrincipal;
+
+public interface AccessTokenService {
+
+    /**
+     * 토큰 인증 모드 사용 여부 (auth.token.enabled)
+     */
+    boolean isEnabled();
+
+    /**
+     * 로그인 정보를 담은 HMAC 서명 토큰을 발급합니다.
+     */
+    String issue(SessionPrincipal principal);
+
+    /**
+     * 토큰 서명/만료/폐기 여부를 확인하고 로그인 정보를 반환합니다. (DB, 세션 조회 없음)
+     * @return 유효하지 않으면 null
+     */
+    SessionPrincipal verify(String token);
+
+    /**
+     * 토큰을 만료 시각까지 폐기 목록에 등록합니다. (로그아웃)
+     * 서명/만료가 유효하지 않은 토큰은 무시합니다.
+     * @throws com.jobjob.albaing.exception.TokenRevocationFailedException 등록하지 못한 경우
+     */
+    void revoke(String token);
+
+    long getTtlSeconds();
+}
@@ -0,0 +1,185 @@
+package com.jobjob.albaing.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobjob.albaing.exception.TokenRevocationFailedException;
+import com.jobjob.albaing.model.vo.SessionPrincipal;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 세션 없이 검증 가능한 HMAC-SHA256 서명 토큰.
+ * 형식: {keyId}.{base64url(payload JSON)}.{base64url(signature)}
+ *
+ * - 키 교체: auth.token.keys 에 여러 키를 두고 auth.token.active-key 로 서명 키를 지정합니다.
+ *   검증은 토큰에 기록된 keyId 로 하므로 이전 키로 발급된 토큰도 만료 전까지 유효합니다.
+ * - 폐기: 로그아웃한 토큰의 jti 를 만료 시각까지 TokenRevocationStore 에 보관합니다.
+ *   등록하지 못하면 TokenRevocationFailedException 으로 로그아웃을 실패 처리합니다.
+ *   (여러 노드로 운영할 때는 auth.token.revocation-store=jdbc)
+ */
+@Service
+public class AccessTokenServiceImpl implements AccessTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessTokenServiceImpl.class);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Value("${auth.token.enabled:false}")
+    private boolean enabled;
+
+    // keyId:base64Secret,keyId:base64Secret
+    @Value("${auth.token.keys:}")
+    private String keysProperty;
+
+    @Value("${auth.token.active-key:}")
+    private String activeKeyId;
+
+    @Value("${auth.token.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    private final Map<String, byte[]> keys = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        for (String entry : keysProperty.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length == 2 && !parts[0].isBlank()) {
+                keys.put(parts[0].trim(), Base64.getDecoder().decode(parts[1].trim()));
+            }
+        }
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("auth.token.active-key 에 해당하는 서명 키가 auth.token.keys 에 없습니다.");
+        }
+        logger.info("토큰 인증 모드 활성화: keys={}, activeKey={}, ttl={}s", keys.keySet(), activeKeyId, ttlSeconds);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    @Override
+    public String issue(SessionPrincipal principal) {
+        long now = System.currentTimeMillis() / 1000;
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", principal.getId());
+        claims.put("role", principal.getRole().name());
+        claims.put("name", principal.getDisplayName());
+        claims.put("avatar", principal.getAvatarUrl());
+        claims.put("ver", principal.getVersion());
+        claims.put("exp", now + ttlSeconds);
+        claims.put("jti", UUID.randomUUID().toString());
+
+        try {
+            String signingInput = activeKeyId + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return signingInput + "." + ENCODER.encodeToString(sign(keys.get(activeKeyId), signingInput));
+        } catch (Exception e) {
+            throw new IllegalStateException("토큰 발급 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public SessionPrincipal verify(String token) {
+        Map<String, Object> claims = verifiedClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        if (tokenRevocationStore.isRevoked((String) claims.get("jti"))) {
+            return null;
+        }
+        try {
+            return new SessionPrincipal(
+                    ((Number) claims.get("sub")).longValue(),
+                    SessionPrincipal.Role.valueOf((String) claims.get("role")),
+                    (String) claims.get("name"),
+                    (String) claims.get("avatar"),
+                    ((Number) claims.get("ver")).longValue());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void revoke(String token) {
+        Map<String, Object> claims = verifiedClaims(token);
+        if (claims == null) {
+            return;
+        }
+        String jti = (String) claims.get("jti");
+        long exp = ((Number) claims.get("exp")).longValue();
+        if (!tokenRevocationStore.revoke(jti, exp)) {
+            throw new TokenRevocationFailedException("로그아웃을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 서명과 만료 시각을 확인한 payload (유효하지 않으면 null)
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> verifiedClaims(String token) {
+        if (!enabled || token == null) {
+            return null;
+        }
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        if (first <= 0 || last <= first) {
+            return null;
+        }
+
+        byte[] key = keys.get(token.substring(0, first));
+        if (key == null) {
+            return null;
+        }
+
+        try {
+            String signingInput = token.substring(0, last);
+            byte[] signature = DECODER.decode(token.substring(last + 1));
+            if (!MessageDigest.isEqual(signature, sign(key, signingInput))) {
+                return null;
+            }
+
+            Map<String, Object> claims = objectMapper.readValue(DECODER.decode(token.substring(first + 1, last)), Map.class);
+            Object exp = claims.get("exp");
+            if (!(exp instanceof Number) || ((Number) exp).longValue() <= System.currentTimeMillis() / 1000) {
+                return null;
+            }
+            return claims;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(byte[] key, String signingInput) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+        mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+        return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -2,30 +2,37 @@ package com.jobjob.albaing.service;
 
 import com.jobjob.albaing.dto.Company;
 import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.exception.PasswordHashingRejectedException;
 import com.jobjob.albaing.mapper.CompanyMapper;
 import com.jobjob.albaing.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class AuthServiceImpl implements AuthService {
 
+    private static final String DUPLICATE_KEY_MARKER = "for key '";
+    private static final Set<String> PHONE_KEYS = Set.of("uk_users_phone", "uk_companies_phone");
+
     @Autowired
     private UserMapper userMapper;
     @Autowired
     private CompanyMapper companyMapper;
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
     @Autowired
     @Lazy
     private VerificationServiceImpl verificationService;
+    @Autowired
+    private ExistenceFilterService existenceFilterService;
 
     @Override
     public Map<String, Object> loginUser(String userEmail, String userPassword) {
@@ -41,12 +48,19 @@ public class AuthServiceImpl implements AuthService {
             return result;
         }
 
-        if (!passwordEncoder.matches(userPassword, loggedInUser.getUserPassword())) {
+        if (!passwordHashingService.matches(userPassword, loggedInUser.getUserPassword())) {
             result.put("status", "fail");
             result.put("message", "이메일 또는 비밀번호가 올바르지 않습니다.");
             return result;
         }
 
+        // 저장된 해시의 cost 가 현재 보정값과 다르면 백그라운드에서 재해싱
+        String storedPassword = loggedInUser.getUserPassword();
+        if (passwordHashingService.needsRehash(storedPassword)) {
+            passwordHashingService.rehashInBackground(userPassword,
+                    rehashed -> userMapper.rehashUserPassword(userEmail, storedPassword, rehashed));
+        }
+
         result.put("status", "success");
         result.put("user", loggedInUser);
         return result;
@@ -66,12 +80,19 @@ public class AuthServiceImpl implements AuthService {
             return result;
         }
 
-        if (!passwordEncoder.matches(companyPassword, loggedInCompany.getCompanyPassword())) {
+        if (!passwordHashingService.matches(companyPassword, loggedInCompany.getCompanyPassword())) {
             result.put("status", "fail");
             result.put("message", "이메일 또는 비밀번호가 올바르지 않습니다.");
             return result;
         }
 
+        // 저장된 해시의 cost 가 현재 보정값과 다르면 백그라운드에서 재해싱
+        String storedPassword = loggedInCompany.getCompanyPassword();
+        if (passwordHashingService.needsRehash(storedPassword)) {
+            passwordHashingService.rehashInBackground(companyPassword,
+                    rehashed -> companyMapper.rehashCompanyPassword(companyEmail, storedPassword, rehashed));
+        }
+
         // 기업 승인 상태 확인
         if (loggedInCompany.getCompanyApprovalStatus() == Company.ApprovalStatus.approving) {
             result.put("status", "fail");
@@ -92,20 +113,7 @@ public class AuthServiceImpl implements AuthService {
     public Map<String, Object> registerUser(User user) {
         Map<String, Object> response = new HashMap<>();
 
-        // ✅ 이메일 중복 체크
-        if (isUserExist(user.getUserEmail())) {
-            response.put("status", "fail");
-            response.put("message", "이미 가입한 이메일입니다.");
-            return response;
-        }
-
-        // ✅ 전화번호 중복 체크
-        if (isUserPhoneExist(user.getUserPhone())) {
-            response.put("status", "fail");
-            response.put("message", "이미 가입한 전화번호입니다.");
-            return response;
-        }
-
+        // 이메일/전화번호 중복은 INSERT 시 유니크 인덱스 위반으로 판단 (사전 COUNT 조회 없음)
         if (user.getUserEmail() == null || user.getUserEmail().trim().isEmpty()) {
             response.put("status", "fail");
             response.put("message", "이메일은 필수 입력값입니다.");
@@ -149,7 +157,7 @@ public class AuthServiceImpl implements AuthService {
             }
 
             // 비밀번호 암호화 후 저장
-            String encodedPassword = passwordEncoder.encode(user.getUserPassword());
+            String encodedPassword = passwordHashingService.encode(user.getUserPassword());
             user.setUserPassword(encodedPassword);
 
             // **DEBUG: 프로필 이미지 확인**
@@ -157,12 +165,18 @@ public class AuthServiceImpl implements AuthService {
 
             // 회원가입 실행
             userMapper.registerUser(user);
+            existenceFilterService.addUser(user.getUserEmail(), user.getUserPhone());
 
             // 회원가입 완료 후 이메일 인증 정보 삭제
             verificationService.removeEmailVerification(user.getUserEmail());
 
             response.put("status", "success");
             response.put("message", "회원가입이 성공적으로 완료되었습니다.");
+        } catch (DuplicateKeyException e) {
+            response.put("status", "fail");
+            response.put("message", duplicateMessage(e));
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (Exception e) {
             response.put("status", "error");
             response.put("message", "회원가입 중 오류가 발생했습니다: " + e.getMessage());
@@ -177,20 +191,7 @@ public class AuthServiceImpl implements AuthService {
     public Map<String, Object> registerCompany(Company company) {
         Map<String, Object> response = new HashMap<>();
 
-        // ✅ 이메일 중복 체크
-        if (isCompanyExist(company.getCompanyEmail())) {
-            response.put("status", "fail");
-            response.put("message", "이미 가입한 이메일입니다.");
-            return response;
-        }
-
-        // ✅ 전화번호 중복 체크
-        if (isCompanyPhoneExist(company.getCompanyPhone())) {
-            response.put("status", "fail");
-            response.put("message", "이미 가입한 전화번호입니다.");
-            return response;
-        }
-
+        // 이메일/전화번호 중복은 INSERT 시 유니크 인덱스 위반으로 판단 (사전 COUNT 조회 없음)
         if (company.getCompanyEmail() == null || company.getCompanyEmail().trim().isEmpty()) {
             response.put("status", "fail");
             response.put("message", "이메일은 필수 입력값입니다.");
@@ -225,7 +226,7 @@ public class AuthServiceImpl implements AuthService {
             }
 
             // ✅ 비밀번호 암호화 후 저장
-            String encodedPassword = passwordEncoder.encode(company.getCompanyPassword());
+            String encodedPassword = passwordHashingService.encode(company.getCompanyPassword());
             company.setCompanyPassword(encodedPassword);
 
             // **DEBUG: 저장될 companyLogo 확인**
@@ -233,12 +234,18 @@ public class AuthServiceImpl implements AuthService {
 
             // ✅ 회원가입 실행
             companyMapper.registerCompany(company);
+            existenceFilterService.addCompany(company.getCompanyEmail(), company.getCompanyPhone());
 
             // ✅ 이메일 인증 정보 삭제
             verificationService.removeEmailVerification(company.getCompanyEmail());
 
             response.put("status", "success");
             response.put("message", "기업 회원가입이 성공적으로 완료되었습니다.");
+        } catch (DuplicateKeyException e) {
+            response.put("status", "fail");
+            response.put("message", duplicateMessage(e));
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (Exception e) {
             response.put("status", "error");
             response.put("message", "기업 회원가입 중 오류가 발생했습니다: " + e.getMessage());
@@ -248,26 +255,56 @@ public class AuthServiceImpl implements AuthService {
         return response;
     }
 
+    // 유니크 인덱스(uk_*_email / uk_*_phone) 위반 → 기존 중복 안내 메시지
+    private String duplicateMessage(DuplicateKeyException e) {
+        String key = violatedKey(e.getMostSpecificCause().getMessage());
+        if (PHONE_KEYS.contains(key)) {
+            return "이미 가입한 전화번호입니다.";
+        }
+        return "이미 가입한 이메일입니다.";
+    }
 
+    /**
+     * MySQL 중복 오류 메시지에서 인덱스 이름만 추출
+     * "Duplicate entry '값' for key 'users.uk_users_phone'" → uk_users_phone
+     * (메시지에 중복된 값 자체가 들어 있으므로 메시지 전체를 검색하지 않음)
+     */
+    private static String violatedKey(String detail) {
+        if (detail == null) {
+            return "";
+        }
+        int start = detail.lastIndexOf(DUPLICATE_KEY_MARKER);
+        if (start < 0) {
+            return "";
+        }
+        String key = detail.substring(start + DUPLICATE_KEY_MARKER.length());
+        int end = key.indexOf('\'');
+        if (end >= 0) {
+            key = key.substring(0, end);
+        }
+        // MySQL 8.0.19 부터는 "테이블.인덱스" 형식
+        return key.substring(key.lastIndexOf('.') + 1);
+    }
 
+    // 블룸 필터에서 없다고 판단되면 DB 조회 생략
     @Override
     public boolean isUserExist(String email) {
-        return userMapper.isUserExist(email);
+        return existenceFilterService.mightContainUserEmail(email) && userMapper.isUserExist(email);
     }
 
     @Override
     public boolean isCompanyExist(String email) {
-        return companyMapper.isCompanyExist(email);
+        return existenceFilterService.mightContainCompanyEmail(email) && companyMapper.isCompanyExist(email);
     }
 
     @Override
     public boolean isUserPhoneExist(String userPhone) {
-        return userMapper.isUserPhoneExist(userPhone);
+        return existenceFilterService.mightContainUserPhone(userPhone) && userMapper.isUserPhoneExist(userPhone);
     }
 
     @Override
     public boolean isCompanyPhoneExist(String companyPhone) {
-        return companyMapper.isCompanyPhoneExist(companyPhone);
+        return existenceFilterService.mightContainCompanyPhone(companyPhone) && companyMapper.isCompanyPhoneExist(companyPhone);
     }
 
     @Override
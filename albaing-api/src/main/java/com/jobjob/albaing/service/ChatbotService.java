@@ -0,0 +1,19 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.ChatbotAnswer;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface ChatbotService {
+
+    /**
+     * 챗봇 질문에 대한 응답 (자주 묻는 질문은 캐시에서 바로 응답)
+     */
+    ChatbotAnswer answer(String sessionId, String message);
+
+    /**
+     * 요청 스레드를 붙잡지 않는 비동기 응답 (가상 스레드에서 처리, 스트리밍 응답용)
+     * 동시 처리 한도를 넘으면 RejectedExecutionException 으로 완료됩니다.
+     */
+    CompletableFuture<ChatbotAnswer> answerAsync(String sessionId, String message);
+}
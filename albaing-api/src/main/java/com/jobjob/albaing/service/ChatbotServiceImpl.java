@@ -0,0 +1,301 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.ChatbotAnswer;
+import com.jobjob.albaing.util.CircuitBreaker;
+import com.jobjob.albaing.util.KoreanTextNormalizer;
+import com.jobjob.albaing.util.NgramTfIdfClassifier;
+import com.jobjob.albaing.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Dialogflow 호출 앞단의 응답 캐시.
+ * 질문을 정규화(공백/문장부호/반복 문자 제거)한 문자열을 키로 LRU + TTL 캐시에 보관합니다.
+ * 문맥에 따라 달라지는 응답과 인식 실패 응답은 캐시하지 않고,
+ * 문맥이 남아 있는 세션의 질문은 캐시를 거치지 않습니다.
+ *
+ * 캐시에 없으면 로컬 인텐트 분류기가 확실히 아는 질문은 바로 응답하고,
+ * 나머지만 Dialogflow 로 보냅니다. Dialogflow 가 실패하거나 지연이 반복되면 (서킷 브레이커)
+ * 원격 호출을 잠시 멈추고 로컬 분류기로 대체 응답합니다.
+ *
+ * 같은 질문(정규화 기준)이 동시에 들어오면 한 요청만 응답을 만들고 나머지는 그 결과를 함께 사용합니다.
+ */
+@Service
+public class ChatbotServiceImpl implements ChatbotService {
+
+    @Autowired
+    private DialogflowService dialogflowService;
+
+    @Autowired
+    private LocalIntentService localIntentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${chatbot.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${chatbot.cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${chatbot.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 단독 자모(ㅋㅋ, ㅠㅠ 등) 무시
+    @Value("${chatbot.cache.fold-jamo:true}")
+    private boolean foldJamo;
+
+    // 캐시하지 않을 인텐트 (쉼표 구분)
+    @Value("${chatbot.cache.skip-intents:}")
+    private Set<String> skipIntents;
+
+    // 문맥 응답 이후 해당 세션이 캐시를 거치지 않는 시간 (Dialogflow 컨텍스트 유지 시간)
+    @Value("${chatbot.cache.context-bypass-seconds:1200}")
+    private long contextBypassSeconds;
+
+    @Value("${chatbot.local.enabled:true}")
+    private boolean localEnabled;
+
+    // 로컬 분류기로 바로 응답하는 기준 (유사도, 다른 인텐트와의 유사도 차이)
+    @Value("${chatbot.local.answer-threshold:0.6}")
+    private double answerThreshold;
+
+    @Value("${chatbot.local.answer-margin:0.2}")
+    private double answerMargin;
+
+    // Dialogflow 를 사용할 수 없을 때 로컬 분류기로 대체 응답하는 기준
+    @Value("${chatbot.local.fallback-threshold:0.35}")
+    private double fallbackThreshold;
+
+    @Value("${chatbot.local.fallback-margin:0.1}")
+    private double fallbackMargin;
+
+    // 이 시간을 넘긴 Dialogflow 응답은 (응답은 사용하되) 실패로 집계
+    @Value("${chatbot.remote.latency-budget-ms:1000}")
+    private long latencyBudgetMs;
+
+    @Value("${chatbot.remote.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${chatbot.remote.open-seconds:30}")
+    private long openSeconds;
+
+    // 같은 질문 동시 요청 합치기
+    @Value("${chatbot.coalesce.stripes:16}")
+    private int coalesceStripes;
+
+    @Value("${chatbot.coalesce.max-in-flight:1000}")
+    private int coalesceMaxInFlight;
+
+    // 먼저 보낸 요청의 결과를 기다리는 최대 시간
+    @Value("${chatbot.coalesce.wait-timeout-ms:2000}")
+    private long coalesceWaitTimeoutMs;
+
+    // 비동기(스트리밍) 응답 동시 처리 한도
+    @Value("${chatbot.async.max-concurrent:1000}")
+    private int asyncMaxConcurrent;
+
+    private Map<String, CachedAnswer> cache;
+    private Map<String, Long> contextSessions;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter bypasses;
+    private CircuitBreaker circuitBreaker;
+    private SingleFlight<String, ChatbotAnswer> singleFlight;
+    private ExecutorService asyncExecutor;
+    private Semaphore asyncPermits;
+
+    private record CachedAnswer(ChatbotAnswer answer, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAnswer> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        contextSessions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        hits = Counter.builder("chatbot.answer.cache").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("chatbot.answer.cache").tag("result", "miss").register(meterRegistry);
+        bypasses = Counter.builder("chatbot.answer.cache").tag("result", "bypass").register(meterRegistry);
+        Gauge.builder("chatbot.answer.cache.hit.ratio", this, service -> {
+                    double lookups = service.hits.count() + service.misses.count();
+                    return lookups == 0 ? 0 : service.hits.count() / lookups;
+                })
+                .register(meterRegistry);
+        Gauge.builder("chatbot.answer.cache.size", this, service -> service.cache.size())
+                .register(meterRegistry);
+
+        singleFlight = new SingleFlight<>(coalesceStripes, coalesceMaxInFlight);
+        Gauge.builder("chatbot.coalesce.in.flight", this, service -> service.singleFlight.inFlight())
+                .register(meterRegistry);
+
+        // 대기 시간 대부분이 원격 호출 대기이므로 플랫폼 스레드 대신 가상 스레드 사용
+        asyncExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chatbot-", 0).factory());
+        asyncPermits = new Semaphore(asyncMaxConcurrent);
+
+        circuitBreaker = new CircuitBreaker(failureThreshold, openSeconds * 1000);
+        Gauge.builder("chatbot.remote.circuit.open", this,
+                        service -> service.circuitBreaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        asyncExecutor.shutdownNow();
+    }
+
+    @Override
+    public CompletableFuture<ChatbotAnswer> answerAsync(String sessionId, String message) {
+        if (!asyncPermits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("챗봇 동시 요청 한도 초과"));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> answer(sessionId, message), asyncExecutor)
+                    .whenComplete((answer, error) -> asyncPermits.release());
+        } catch (RejectedExecutionException e) {
+            asyncPermits.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public ChatbotAnswer answer(String sessionId, String message) {
+        long now = System.currentTimeMillis();
+        String key = KoreanTextNormalizer.normalize(message, foldJamo);
+        boolean inContext = inContext(sessionId, now);
+
+        if (!cacheEnabled || key.isEmpty() || inContext) {
+            bypasses.increment();
+            return remember(sessionId, resolve(sessionId, message, inContext), now);
+        }
+
+        CachedAnswer cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.increment();
+            return cached.answer();
+        }
+        misses.increment();
+
+        boolean[] follower = new boolean[1];
+        ChatbotAnswer answer;
+        try {
+            answer = singleFlight.execute(key, () -> {
+                ChatbotAnswer resolved = remember(sessionId, resolve(sessionId, message, false), now);
+                if (resolved.getSource() == ChatbotAnswer.Source.DIALOGFLOW
+                        && !resolved.isFallback() && !resolved.isContextual() && !skipIntents.contains(resolved.getIntent())) {
+                    // 캐시 적중 응답은 출처가 CACHE 로 보이도록 사본을 보관 (이번 응답은 DIALOGFLOW 그대로)
+                    cache.put(key, new CachedAnswer(resolved.cached(), System.currentTimeMillis() + ttlSeconds * 1000));
+                }
+                return resolved;
+            }, coalesceWaitTimeoutMs, role -> {
+                follower[0] = role == SingleFlight.Role.FOLLOWER;
+                meterRegistry.counter("chatbot.coalesce", "role", role.name().toLowerCase()).increment();
+            });
+        } catch (TimeoutException e) {
+            meterRegistry.counter("chatbot.coalesce.timeout").increment();
+            return resolveLocally(localEnabled ? localIntentService.classify(message) : null);
+        }
+
+        // 먼저 보낸 사용자의 세션 문맥에 묶인 응답이면 내 세션으로 다시 질의
+        if (follower[0] && answer.isContextual()) {
+            return remember(sessionId, resolve(sessionId, message, false), now);
+        }
+        return answer;
+    }
+
+    // 로컬 분류기(확실한 경우) → Dialogflow → 로컬 분류기(대체 응답) 순서
+    private ChatbotAnswer resolve(String sessionId, String message, boolean inContext) {
+        NgramTfIdfClassifier.Match match = localEnabled ? localIntentService.classify(message) : null;
+
+        // 문맥이 남아 있는 세션은 Dialogflow 가 문맥을 보고 판단해야 함
+        if (!inContext && isConfident(match, answerThreshold, answerMargin)) {
+            return count("local", localAnswer(match));
+        }
+
+        if (circuitBreaker.allowRequest()) {
+            long startNanos = System.nanoTime();
+            ChatbotAnswer remote = dialogflowService.detectIntent(sessionId, message);
+            long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+
+            if (remote.getSource() != ChatbotAnswer.Source.ERROR && elapsedMs <= latencyBudgetMs) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+            }
+            if (remote.getSource() != ChatbotAnswer.Source.ERROR) {
+                return count("dialogflow", remote);
+            }
+        }
+
+        return resolveLocally(match);
+    }
+
+    // Dialogflow 를 사용할 수 없을 때 로컬 분류기로 대체 응답
+    private ChatbotAnswer resolveLocally(NgramTfIdfClassifier.Match match) {
+        if (isConfident(match, fallbackThreshold, fallbackMargin)) {
+            return count("local_fallback", localAnswer(match));
+        }
+        return count("unavailable", ChatbotAnswer.error("지금은 챗봇 응답이 원활하지 않습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    private boolean isConfident(NgramTfIdfClassifier.Match match, double threshold, double margin) {
+        return match != null && match.score() >= threshold && match.margin() >= margin
+                && localIntentService.answerOf(match.intent()) != null;
+    }
+
+    private ChatbotAnswer localAnswer(NgramTfIdfClassifier.Match match) {
+        return ChatbotAnswer.local(match.intent(), localIntentService.answerOf(match.intent()), match.score());
+    }
+
+    private ChatbotAnswer count(String source, ChatbotAnswer answer) {
+        meterRegistry.counter("chatbot.answer.source", "source", source).increment();
+        return answer;
+    }
+
+    private boolean inContext(String sessionId, long now) {
+        Long until = contextSessions.get(sessionId);
+        if (until == null) {
+            return false;
+        }
+        if (until <= now) {
+            contextSessions.remove(sessionId);
+            return false;
+        }
+        return true;
+    }
+
+    // 문맥 응답을 받은 세션은 한동안 캐시를 거치지 않음
+    private ChatbotAnswer remember(String sessionId, ChatbotAnswer answer, long now) {
+        if (answer.isContextual()) {
+            contextSessions.put(sessionId, now + contextBypassSeconds * 1000);
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobjob.albaing.service;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 이어 올리기 가능한 분할 업로드.
+ * 세션 생성 → 조각(chunk) 단위 PUT (순서 무관, 재전송 가능) → 완료 시 FileService 에 저장하고 URL 반환.
+ * 알 수 없거나 만료된 세션이면 NoSuchElementException, 잘못된 조각이면 UploadRejectedException 을 던집니다.
+ * 세션은 처리한 서버에만 있으므로 여러 대로 운영할 때는 sticky 라우팅이 필요합니다.
+ */
+public interface ChunkedUploadService {
+
+    /**
+     * 업로드 세션 생성
+     * @param size 전체 파일 크기 (bytes)
+     * @param clientKey 요청한 클라이언트 (IP), 클라이언트별 동시 세션 수 제한에 사용
+     * @return uploadId, size, chunkSize, chunkCount, expiresAt
+     */
+    Map<String, Object> create(long size, String clientKey);
+
+    // 세션 상태 (받은 조각 번호 목록 포함, 끊긴 뒤 이어 올릴 위치 확인용)
+    Map<String, Object> status(String uploadId);
+
+    /**
+     * 조각 저장 (offset 은 chunkSize 의 배수, 마지막 조각만 짧을 수 있음)
+     * @param sha256 조각 본문의 SHA-256 (hex), 다르면 저장하지 않고 거부
+     */
+    Map<String, Object> writeChunk(String uploadId, long offset, String sha256, InputStream body);
+
+    /**
+     * 모든 조각을 받았으면 FileService 에 저장하고 URL 반환.
+     * 이미 완료된 세션이면 같은 URL 을 다시 반환합니다 (재시도 안전).
+     * 저장된 파일의 참조는 consume 할 때까지 세션이 갖고 있다가, 사용되지 않고 만료되면 해제됩니다.
+     */
+    String complete(String uploadId);
+
+    /**
+     * 완료 처리 후 세션을 닫고 URL 반환 (회원가입/정보 수정처럼 이미지를 DB 에 저장하는 쪽에서 사용).
+     * uploadId 는 처음 사용한 요청에만 유효하며, 이후에는 NoSuchElementException 을 던집니다.
+     * 파일 참조는 호출한 쪽으로 넘어가므로 저장에 실패하면 FileService.release 로 해제해야 합니다.
+     */
+    String consume(String uploadId);
+}
@@ -0,0 +1,428 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.exception.UploadRejectedException;
+import com.jobjob.albaing.util.ContentSniffer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분할 업로드 세션 관리 (단일 서버 메모리 + uploads/.tmp/chunked 의 임시 파일)
+ * - 세션 상태를 서버 간에 공유하지 않으므로 여러 대로 운영할 때는 로드밸런서의 sticky 라우팅 필요
+ * - 로그인 전에도 만들 수 있으므로 클라이언트(IP)별 동시 세션 수를 제한 (생성 속도는 RateLimitInterceptor)
+ * - 세션 생성 시 전체 크기만큼 파일을 미리 잡아 두고, 조각은 offset 위치에 바로 기록 (순서/병렬 무관)
+ * - 조각마다 SHA-256 을 확인하고, 맞는 조각만 받은 것으로 표시 (틀리면 같은 offset 으로 다시 보내면 됨)
+ * - 첫 조각에서 형식을 먼저 확인해 이미지가 아니면 나머지를 받기 전에 거부
+ * - 완료 시 FileService.uploadStream 으로 저장 (내용 주소 저장, 썸네일 생성 등 기존 흐름 그대로)
+ * - 저장 시 추가된 파일 참조는 처음 consume 한 요청으로 넘어가고 세션은 닫힘 (같은 uploadId 로 두 번 참조하지 않음),
+ *   완료 후 consume 되지 않고 만료되면 참조 해제
+ * - 마지막 조각 이후 session-ttl 동안 진행이 없으면 세션과 임시 파일 삭제
+ */
+@Service
+public class ChunkedUploadServiceImpl implements ChunkedUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadServiceImpl.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${upload.dir:${user.dir}/uploads/}")
+    private String uploadDir;
+
+    @Value("${upload.max-bytes:5242880}")
+    private long maxBytes;
+
+    @Value("${upload.allowed-types:JPEG,PNG,GIF,WEBP}")
+    private Set<ContentSniffer.Type> allowedTypes;
+
+    @Value("${upload.chunked.chunk-size:262144}")
+    private int chunkSize;
+
+    @Value("${upload.chunked.session-ttl-minutes:60}")
+    private long sessionTtlMinutes;
+
+    @Value("${upload.chunked.max-sessions:500}")
+    private int maxSessions;
+
+    @Value("${upload.chunked.max-sessions-per-client:5}")
+    private int maxSessionsPerClient;
+
+    @Value("${upload.chunked.sweep-interval-seconds:60}")
+    private long sweepIntervalSeconds;
+
+    private final ConcurrentHashMap<String, UploadSession> sessions = new ConcurrentHashMap<>();
+    private Path sessionDir;
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void init() throws IOException {
+        sessionDir = Files.createDirectories(Paths.get(uploadDir, ".tmp", "chunked"));
+        Gauge.builder("upload.chunked.sessions.active", sessions, Map::size).register(meterRegistry);
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chunked-upload-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweepExpired, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    @Override
+    public Map<String, Object> create(long size, String clientKey) {
+        if (size <= 0) {
+            throw new UploadRejectedException("파일이 비어 있습니다.");
+        }
+        if (size > maxBytes) {
+            throw new UploadRejectedException("파일 크기는 " + (maxBytes / (1024 * 1024)) + "MB를 초과할 수 없습니다.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path path = sessionDir.resolve(uploadId + ".part");
+        UploadSession session = new UploadSession(uploadId, clientKey, path, size, chunkSize);
+        // 한도 확인과 등록을 함께 (동시 요청으로 한도를 넘지 않도록)
+        synchronized (sessions) {
+            if (sessions.size() >= maxSessions) {
+                meterRegistry.counter("upload.chunked.sessions", "result", "rejected").increment();
+                throw new UploadRejectedException("진행 중인 업로드가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            if (countByClient(clientKey) >= maxSessionsPerClient) {
+                meterRegistry.counter("upload.chunked.sessions", "result", "rejected").increment();
+                throw new UploadRejectedException("진행 중인 업로드가 너무 많습니다. 이전 업로드를 마친 뒤 다시 시도해 주세요.");
+            }
+            sessions.put(uploadId, session);
+        }
+
+        // 전체 크기만큼 미리 잡아 두어 조각을 어느 순서로 받아도 제자리에 기록
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(size);
+        } catch (IOException e) {
+            discard(session);
+            throw new RuntimeException("업로드 세션 생성 중 오류 발생: " + e.getMessage(), e);
+        }
+        meterRegistry.counter("upload.chunked.sessions", "result", "created").increment();
+        return describe(session);
+    }
+
+    @Override
+    public Map<String, Object> status(String uploadId) {
+        return describe(require(uploadId));
+    }
+
+    @Override
+    public Map<String, Object> writeChunk(String uploadId, long offset, String sha256, InputStream body) {
+        UploadSession session = require(uploadId);
+        if (offset < 0 || offset >= session.size || offset % session.chunkSize != 0) {
+            throw new UploadRejectedException("잘못된 조각 위치입니다: " + offset);
+        }
+        byte[] expected = parseDigest(sha256);
+        int index = (int) (offset / session.chunkSize);
+        long length = Math.min(session.chunkSize, session.size - offset);
+
+        // 완료 처리와 같은 잠금 안에서 시작: 받은 표시를 먼저 지우므로
+        // 덮어쓰는 도중이거나 검증에 실패한 조각이 있으면 complete() 가 완료하지 않음
+        session.beginWrite(index);
+        boolean stored = false;
+        MessageDigest digest = sha256();
+        try (InputStream input = body;
+             ReadableByteChannel source = Channels.newChannel(input);
+             FileChannel out = FileChannel.open(session.path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, length + 1));
+            long position = offset;
+            long received = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                received += buffer.remaining();
+                if (received > length) {
+                    throw new UploadRejectedException("조각 크기가 " + length + " bytes 를 넘습니다.");
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    // 위치 지정 쓰기: 같은 파일에 여러 조각을 동시에 써도 서로 겹치지 않음
+                    position += out.write(buffer, position);
+                }
+                buffer.clear();
+            }
+            if (received != length) {
+                throw new UploadRejectedException("조각 크기가 맞지 않습니다: " + received + " / " + length);
+            }
+            if (!MessageDigest.isEqual(expected, digest.digest())) {
+                meterRegistry.counter("upload.chunked.chunks", "result", "checksum_mismatch").increment();
+                throw new UploadRejectedException("조각 체크섬이 맞지 않습니다. 다시 전송해 주세요.");
+            }
+            if (index == 0) {
+                checkType(session, out);
+            }
+            stored = true;
+        } catch (IOException e) {
+            throw new RuntimeException("조각 저장 중 오류 발생: " + e.getMessage(), e);
+        } finally {
+            session.endWrite(index, stored);
+        }
+
+        meterRegistry.counter("upload.chunked.chunks", "result", "stored").increment();
+        return describe(session);
+    }
+
+    @Override
+    public String complete(String uploadId) {
+        UploadSession session = require(uploadId);
+        synchronized (session) {
+            return completeLocked(session);
+        }
+    }
+
+    @Override
+    public String consume(String uploadId) {
+        UploadSession session = require(uploadId);
+        synchronized (session) {
+            // 동시에 같은 uploadId 로 들어온 요청은 먼저 잠금을 얻은 쪽만 사용
+            if (session.consumed) {
+                throw new NoSuchElementException("업로드 세션이 없거나 만료되었습니다.");
+            }
+            String url = completeLocked(session);
+            session.consumed = true;
+            sessions.remove(session.uploadId, session);
+            meterRegistry.counter("upload.chunked.sessions", "result", "consumed").increment();
+            return url;
+        }
+    }
+
+    // session 잠금 안에서 호출
+    private String completeLocked(UploadSession session) {
+        if (session.completedUrl != null) {
+            return session.completedUrl;
+        }
+        // 전송 중인 조각은 받은 표시가 지워져 있으므로 여기서 함께 걸러짐
+        int missing = session.firstMissing();
+        if (missing >= 0) {
+            throw new UploadRejectedException("받지 못한 조각이 있습니다: " + missing);
+        }
+        // 이후 들어오는 조각은 beginWrite 에서 거부 (저장 중인 파일을 바꾸지 않도록)
+        session.closed = true;
+        try {
+            // FileInputStream 이므로 FileService 가 FileChannel 로 직접 읽음
+            session.completedUrl = fileService.uploadStream(new FileInputStream(session.path.toFile()));
+        } catch (IOException e) {
+            discard(session);
+            throw new RuntimeException("업로드 완료 처리 중 오류 발생: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            discard(session);
+            throw e;
+        } finally {
+            deleteQuietly(session.path);
+        }
+        // 완료된 세션은 재시도/가입 흐름에서 URL 을 다시 얻을 수 있도록 consume 또는 만료 전까지 유지
+        session.touch();
+        meterRegistry.counter("upload.chunked.sessions", "result", "completed").increment();
+        return session.completedUrl;
+    }
+
+    private int countByClient(String clientKey) {
+        int count = 0;
+        for (UploadSession session : sessions.values()) {
+            if (session.clientKey.equals(clientKey)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private UploadSession require(String uploadId) {
+        UploadSession session = uploadId != null ? sessions.get(uploadId) : null;
+        if (session == null) {
+            throw new NoSuchElementException("업로드 세션이 없거나 만료되었습니다.");
+        }
+        return session;
+    }
+
+    // 첫 조각의 매직 바이트로 형식 확인, 허용되지 않으면 세션 폐기
+    private void checkType(UploadSession session, FileChannel file) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate((int) Math.min(ContentSniffer.HEAD_SIZE, session.size));
+        while (head.hasRemaining() && file.read(head, head.position()) > 0) {
+            // 앞부분이 모일 때까지 읽음
+        }
+        head.flip();
+        ContentSniffer.Type type = ContentSniffer.detect(head);
+        if (type == null || !allowedTypes.contains(type)) {
+            discard(session);
+            throw new UploadRejectedException("이미지 파일(" + allowedTypes + ")만 업로드 가능합니다.");
+        }
+    }
+
+    private Map<String, Object> describe(UploadSession session) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("uploadId", session.uploadId);
+        result.put("size", session.size);
+        result.put("chunkSize", session.chunkSize);
+        result.put("chunkCount", session.chunkCount);
+        result.put("received", session.receivedIndexes());
+        result.put("completed", session.completedUrl != null);
+        if (session.completedUrl != null) {
+            result.put("url", session.completedUrl);
+        }
+        result.put("expiresAt", session.lastTouched + TimeUnit.MINUTES.toMillis(sessionTtlMinutes));
+        return result;
+    }
+
+    private void sweepExpired() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(sessionTtlMinutes);
+        try {
+            for (UploadSession session : sessions.values()) {
+                if (session.lastTouched < cutoff) {
+                    expire(session);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("만료된 업로드 세션 정리 실패", e);
+        }
+    }
+
+    private void expire(UploadSession session) {
+        synchronized (session) {
+            if (session.consumed) {
+                return;
+            }
+            discard(session);
+            // 완료했지만 아무도 사용하지 않은 파일의 참조 해제 (정리 작업이 지울 수 있도록)
+            if (session.completedUrl != null) {
+                fileService.release(session.completedUrl);
+            }
+        }
+        meterRegistry.counter("upload.chunked.sessions", "result", "expired").increment();
+    }
+
+    private void discard(UploadSession session) {
+        sessions.remove(session.uploadId, session);
+        deleteQuietly(session.path);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("업로드 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static byte[] parseDigest(String sha256) {
+        if (sha256 == null || sha256.length() != 64) {
+            throw new UploadRejectedException("조각의 SHA-256 값이 필요합니다.");
+        }
+        try {
+            return HexFormat.of().parseHex(sha256.toLowerCase());
+        } catch (IllegalArgumentException e) {
+            throw new UploadRejectedException("조각의 SHA-256 값이 올바르지 않습니다.");
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class UploadSession {
+        private final String uploadId;
+        private final String clientKey;
+        private final Path path;
+        private final long size;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final BitSet received;
+        private final BitSet writing;
+        private volatile long lastTouched = System.currentTimeMillis();
+        private volatile boolean closed;
+        private volatile String completedUrl;
+        private boolean consumed;
+
+        UploadSession(String uploadId, String clientKey, Path path, long size, int chunkSize) {
+            this.uploadId = uploadId;
+            this.clientKey = clientKey;
+            this.path = path;
+            this.size = size;
+            this.chunkSize = chunkSize;
+            this.chunkCount = (int) ((size + chunkSize - 1) / chunkSize);
+            this.received = new BitSet(chunkCount);
+            this.writing = new BitSet(chunkCount);
+        }
+
+        // 조각 쓰기 시작 (같은 조각을 동시에 두 요청이 쓰지 않도록)
+        synchronized void beginWrite(int index) {
+            if (closed) {
+                throw new UploadRejectedException("이미 완료된 업로드입니다.");
+            }
+            if (writing.get(index)) {
+                throw new UploadRejectedException("같은 조각을 전송 중입니다: " + index);
+            }
+            received.clear(index);
+            writing.set(index);
+            touch();
+        }
+
+        // 검증까지 통과한 조각만 받은 것으로 표시
+        synchronized void endWrite(int index, boolean stored) {
+            writing.clear(index);
+            if (stored) {
+                received.set(index);
+            }
+            touch();
+        }
+
+        synchronized int firstMissing() {
+            int missing = received.nextClearBit(0);
+            return missing < chunkCount ? missing : -1;
+        }
+
+        synchronized int[] receivedIndexes() {
+            return received.stream().toArray();
+        }
+
+        void touch() {
+            lastTouched = System.currentTimeMillis();
+        }
+    }
+}
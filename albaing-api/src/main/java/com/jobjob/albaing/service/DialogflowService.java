@@ -1,35 +1,75 @@
 package com.jobjob.albaing.service;
 
 import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.api.gax.grpc.ChannelPoolSettings;
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.dialogflow.v2.*;
-
+import com.jobjob.albaing.model.vo.ChatbotAnswer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
-import com.google.cloud.dialogflow.v2.SessionsSettings;
-import org.springframework.core.io.Resource;
-// 커밋하기
+/**
+ * Dialogflow 챗봇 응답.
+ * 인증 정보와 SessionsClient(gRPC 채널 풀)는 시작할 때 한 번 만들고 재사용합니다.
+ * 액세스 토큰은 GoogleCredentials 가 만료 전에 자동으로 갱신합니다.
+ */
 @Service
 public class DialogflowService {
     private static final Logger logger = LoggerFactory.getLogger(DialogflowService.class);
 
+    private static final String[] SCOPES = {
+            "https://www.googleapis.com/auth/cloud-platform",
+            "https://www.googleapis.com/auth/dialogflow"
+    };
+
     @Value("${dialogflow.project-id}")
     private String projectId;
     @Value("${google.application.credentials}")
     private Resource credentialsFile;
 
-    public String detectIntent(String sessionId, String message) {
+    @Value("${dialogflow.channel-pool-size:2}")
+    private int channelPoolSize;
+
+    // 유휴 상태에서도 채널 연결 유지 (keep-alive ping 간격)
+    @Value("${dialogflow.keep-alive-seconds:60}")
+    private long keepAliveSeconds;
+
+    // detectIntent 호출 제한 시간 (초과 시 로컬 분류기로 대체 응답)
+    @Value("${dialogflow.timeout-ms:1500}")
+    private long timeoutMs;
+
+    @Value("${dialogflow.shutdown-timeout-seconds:5}")
+    private long shutdownTimeoutSeconds;
+
+    private volatile SessionsClient sessionsClient;
+
+    // 첫 사용자가 인증 파일 로드와 gRPC 연결 비용을 치르지 않도록 시작 시 미리 생성
+    @PostConstruct
+    public void warmUp() {
+        try {
+            getClient();
+        } catch (Exception e) {
+            // 시작은 막지 않고 첫 요청에서 다시 시도
+            logger.warn("Dialogflow SessionsClient 사전 생성 실패, 첫 요청에서 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    public ChatbotAnswer detectIntent(String sessionId, String message) {
         try {
-            GoogleCredentials credentials = GoogleCredentials.fromStream(credentialsFile.getInputStream());
-            SessionsSettings settings = SessionsSettings.newBuilder()
-                    .setCredentialsProvider(FixedCredentialsProvider.create(credentials))
-                    .build();
-            SessionsClient sessionsClient = SessionsClient.create(settings);
             SessionName session = SessionName.of(projectId, sessionId);
             TextInput textInput = TextInput.newBuilder()
                     .setText(message)
@@ -43,56 +83,177 @@ public class DialogflowService {
                     .setQueryInput(queryInput)
                     .build();
 
-            try {
-                DetectIntentResponse response = sessionsClient.detectIntent(request);
-                QueryResult queryResult = response.getQueryResult();
-                String fulfillmentText = queryResult.getFulfillmentText();
-                String action = queryResult.getAction();
-
-                if (fulfillmentText == null || fulfillmentText.isEmpty()) {
-                    logger.warn("Dialogflow에서 빈 응답을 받았습니다");
-
-                    if (action != null && !action.isEmpty()) {
-                        switch (action) {
-                            case "login":
-                                fulfillmentText = "로그인 하시려면 우측 상단을 확인하세요.";
-                                break;
-                            case "signup":
-                                fulfillmentText = "회원가입은 오른쪽 상단의 '회원가입' 버튼을 클릭하시면 됩니다.";
-                                break;
-                            default:
-                                fulfillmentText = "'" + queryResult.getIntent().getDisplayName() +
-                                        "' 인텐트를 인식했지만 응답이 없습니다. 다른 질문을 해주세요.";
-                        }
-                        logger.info("Action 기반 응답 생성: {}", fulfillmentText);
-                    } else {
-                        fulfillmentText = "'" + queryResult.getIntent().getDisplayName() +
-                                "' 인텐트를 인식했지만 응답이 없습니다. 다른 질문을 해주세요.";
+            DetectIntentResponse response = getClient().detectIntent(request);
+            QueryResult queryResult = response.getQueryResult();
+            String fulfillmentText = queryResult.getFulfillmentText();
+            String action = queryResult.getAction();
+
+            if (fulfillmentText == null || fulfillmentText.isEmpty()) {
+                logger.warn("Dialogflow에서 빈 응답을 받았습니다");
+
+                // Action 기반으로 대체 응답 제공
+                if (action != null && !action.isEmpty()) {
+                    switch (action) {
+                        case "login":
+                            fulfillmentText = "로그인 하시려면 우측 상단을 확인하세요.";
+                            break;
+                        case "signup":
+                            fulfillmentText = "회원가입은 오른쪽 상단의 '회원가입' 버튼을 클릭하시면 됩니다.";
+                            break;
+                        default:
+                            fulfillmentText = "'" + queryResult.getIntent().getDisplayName() +
+                                    "' 인텐트를 인식했지만 응답이 없습니다. 다른 질문을 해주세요.";
                     }
-                    // 이 문장은 앞선 조건문에서 설정한 fulfillmentText 값을 덮어씌움 - 의도한 것인지 확인 필요
-                    // fulfillmentText = "응답이 없습니다. 다른 질문을 해주세요.";
+                    logger.info("Action 기반 응답 생성: {}", fulfillmentText);
+                } else {
+                    fulfillmentText = "'" + queryResult.getIntent().getDisplayName() +
+                            "' 인텐트를 인식했지만 응답이 없습니다. 다른 질문을 해주세요.";
                 }
+            }
 
+            if (logger.isDebugEnabled()) {
+                logger.debug("인식된 인텐트: {}, 신뢰도: {}, 쿼리 텍스트: '{}'",
+                        queryResult.getIntent().getDisplayName(),
+                        queryResult.getIntentDetectionConfidence(),
+                        queryResult.getQueryText());
                 for (int i = 0; i < queryResult.getFulfillmentMessagesCount(); i++) {
-                    logger.info("Message {}: {}", i, queryResult.getFulfillmentMessages(i));
+                    logger.debug("Message {}: {}", i, queryResult.getFulfillmentMessages(i));
                 }
+            }
 
-                // 매치된 인텐트가 없는 경우 확인
-                if (queryResult.getIntent().getDisplayName().isEmpty() ||
-                        queryResult.getIntentDetectionConfidence() < 0.7) {
-                }
-                sessionsClient.close();
-                return fulfillmentText;
-            } catch (Exception e) {
-                logger.error("Dialogflow 요청 중 오류 발생", e);
-                throw e;
+            // 매치된 인텐트가 없는 경우 확인
+            boolean fallback = queryResult.getIntent().getIsFallback()
+                    || queryResult.getIntent().getDisplayName().isEmpty()
+                    || queryResult.getIntentDetectionConfidence() < 0.7;
+            if (fallback) {
+                logger.debug("인텐트가 명확하게 감지되지 않았습니다");
             }
+
+            // 후속 질문을 위한 컨텍스트를 남기거나 파라미터를 더 물어보는 응답
+            boolean contextual = hasFollowUpContext(queryResult)
+                    || !queryResult.getAllRequiredParamsPresent();
+
+            return new ChatbotAnswer(fulfillmentText, queryResult.getIntent().getDisplayName(),
+                    queryResult.getIntentDetectionConfidence(), fallback, contextual, ChatbotAnswer.Source.DIALOGFLOW,
+                    richMessages(queryResult, fulfillmentText));
         } catch (IOException e) {
             logger.error("인증 또는 SessionsClient 생성 중 오류 발생: {}", e.getMessage(), e);
-            return "Dialogflow 연결 중 오류가 발생했습니다: " + e.getMessage();
+            return ChatbotAnswer.error("Dialogflow 연결 중 오류가 발생했습니다: " + e.getMessage());
         } catch (Exception e) {
-            logger.error("예상치 못한 오류", e);
-            return "예상치 못한 오류가 발생했습니다: " + e.getMessage();
+            logger.error("Dialogflow 요청 중 오류 발생", e);
+            return ChatbotAnswer.error("예상치 못한 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // 인텐트가 남긴 후속 컨텍스트가 있는지 (__system_counters__ 같은 Dialogflow 내부 컨텍스트와 수명이 끝난 컨텍스트는 제외)
+    private static boolean hasFollowUpContext(QueryResult queryResult) {
+        for (Context context : queryResult.getOutputContextsList()) {
+            String name = context.getName();
+            String id = name.substring(name.lastIndexOf('/') + 1);
+            if (!id.startsWith("__") && context.getLifespanCount() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // fulfillmentMessages → 화면 표시용 메시지 (fulfillmentText 와 같은 텍스트 메시지는 제외)
+    private List<Map<String, Object>> richMessages(QueryResult queryResult, String fulfillmentText) {
+        List<Map<String, Object>> messages = new ArrayList<>();
+        for (Intent.Message message : queryResult.getFulfillmentMessagesList()) {
+            Map<String, Object> rich = new LinkedHashMap<>();
+            switch (message.getMessageCase()) {
+                case TEXT -> {
+                    List<String> texts = message.getText().getTextList().stream()
+                            .filter(text -> !text.isEmpty() && !text.equals(fulfillmentText))
+                            .toList();
+                    if (texts.isEmpty()) {
+                        continue;
+                    }
+                    rich.put("type", "text");
+                    rich.put("texts", texts);
+                }
+                case QUICK_REPLIES -> {
+                    rich.put("type", "quickReplies");
+                    rich.put("title", message.getQuickReplies().getTitle());
+                    rich.put("replies", List.copyOf(message.getQuickReplies().getQuickRepliesList()));
+                }
+                case CARD -> {
+                    Intent.Message.Card card = message.getCard();
+                    rich.put("type", "card");
+                    rich.put("title", card.getTitle());
+                    rich.put("subtitle", card.getSubtitle());
+                    rich.put("imageUri", card.getImageUri());
+                    rich.put("buttons", card.getButtonsList().stream()
+                            .map(button -> Map.of("text", button.getText(), "postback", button.getPostback()))
+                            .toList());
+                }
+                case IMAGE -> {
+                    rich.put("type", "image");
+                    rich.put("imageUri", message.getImage().getImageUri());
+                    rich.put("accessibilityText", message.getImage().getAccessibilityText());
+                }
+                default -> {
+                    continue;
+                }
+            }
+            messages.add(rich);
+        }
+        return messages;
+    }
+
+    // 한 번만 생성 (시작 시 또는 인증 파일 오류로 실패했다면 다음 호출에서 다시 시도)
+    private SessionsClient getClient() throws IOException {
+        SessionsClient client = sessionsClient;
+        if (client == null) {
+            synchronized (this) {
+                client = sessionsClient;
+                if (client == null) {
+                    client = createClient();
+                    sessionsClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    private SessionsClient createClient() throws IOException {
+        GoogleCredentials credentials;
+        try (InputStream in = credentialsFile.getInputStream()) {
+            credentials = GoogleCredentials.fromStream(in).createScoped(SCOPES);
+        }
+
+        InstantiatingGrpcChannelProvider channelProvider = SessionsSettings.defaultGrpcTransportProviderBuilder()
+                .setChannelPoolSettings(ChannelPoolSettings.staticallySized(channelPoolSize))
+                .setKeepAliveTime(org.threeten.bp.Duration.ofSeconds(keepAliveSeconds))
+                .setKeepAliveWithoutCalls(true)
+                .build();
+
+        SessionsSettings.Builder builder = SessionsSettings.newBuilder()
+                .setCredentialsProvider(FixedCredentialsProvider.create(credentials))
+                .setTransportChannelProvider(channelProvider);
+        builder.detectIntentSettings()
+                .setSimpleTimeoutNoRetries(org.threeten.bp.Duration.ofMillis(timeoutMs));
+        SessionsSettings settings = builder.build();
+
+        logger.info("Dialogflow SessionsClient 생성 (채널 {}개)", channelPoolSize);
+        return SessionsClient.create(settings);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        SessionsClient client = sessionsClient;
+        if (client == null) {
+            return;
+        }
+        client.shutdown();
+        try {
+            if (!client.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                client.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            client.shutdownNow();
+            Thread.currentThread().interrupt();
         }
     }
-}
\ No newline at end of file
+}
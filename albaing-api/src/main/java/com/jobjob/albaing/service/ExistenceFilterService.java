@@ -0,0 +1,29 @@
+package com.jobjob.albaing.service;
+
+import java.util.Map;
+
+/**
+ * 가입된 이메일/전화번호(users, companies)에 대한 메모리 블룸 필터.
+ * 없다고 판단되면 DB 조회 없이 바로 false 를 반환하고, 있을 수 있다고 판단될 때만 DB 로 확인합니다.
+ */
+public interface ExistenceFilterService {
+
+    // false 이면 마지막 갱신 시점까지 가입되지 않은 값 (필터가 준비되지 않았거나 갱신이 밀렸으면 항상 true)
+    boolean mightContainUserEmail(String email);
+
+    boolean mightContainUserPhone(String phone);
+
+    boolean mightContainCompanyEmail(String email);
+
+    boolean mightContainCompanyPhone(String phone);
+
+    // 회원가입/정보 수정 시 등록
+    void addUser(String email, String phone);
+
+    void addCompany(String email, String phone);
+
+    // DB 전체를 스트리밍으로 다시 읽어 필터를 재생성합니다. (탈퇴 등으로 오탐이 늘었을 때)
+    void rebuild();
+
+    Map<String, Object> stats();
+}
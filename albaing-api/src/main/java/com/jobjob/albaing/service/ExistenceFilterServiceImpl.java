@@ -0,0 +1,314 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.mapper.CompanyMapper;
+import com.jobjob.albaing.mapper.UserMapper;
+import com.jobjob.albaing.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드마다 메모리에 필터를 두므로 다른 노드의 가입/수정은 주기 갱신으로 반영합니다.
+ * - 갱신 기준점(watermark): 마지막으로 반영한 user_id/company_id 와 DB 시각 (updated_at 비교용)
+ * - refresh-seconds 마다 기준점 이후 가입/수정된 행만 읽어 추가
+ * - 마지막 갱신 성공이 max-staleness-seconds 보다 오래되면 필터를 믿지 않고 모든 조회를 DB 로 넘김
+ *   (다른 노드의 변경이 반영되지 않은 "없음" 응답을 그대로 믿지 않도록)
+ */
+@Service
+public class ExistenceFilterServiceImpl implements ExistenceFilterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExistenceFilterServiceImpl.class);
+
+    // 하나의 필터에 종류별 접두어를 붙여 저장
+    private static final String USER_EMAIL = "ue:";
+    private static final String USER_PHONE = "up:";
+    private static final String COMPANY_EMAIL = "ce:";
+    private static final String COMPANY_PHONE = "cp:";
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private CompanyMapper companyMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${existence-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${existence-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${existence-filter.fpp:0.01}")
+    private double fpp;
+
+    @Value("${existence-filter.refresh-seconds:5}")
+    private long refreshSeconds;
+
+    @Value("${existence-filter.max-staleness-seconds:30}")
+    private long maxStalenessSeconds;
+
+    // 기준 시각 직전에 시작해 늦게 커밋된 수정도 놓치지 않도록 겹쳐 읽는 구간
+    @Value("${existence-filter.refresh-overlap-seconds:5}")
+    private long refreshOverlapSeconds;
+
+    // 준비 전(null)에는 모든 조회를 DB 로 넘김
+    private volatile BloomFilter current;
+    // 재생성 중 들어온 신규 가입도 새 필터에 반영
+    private volatile BloomFilter building;
+
+    private final AtomicLong loadedEntries = new AtomicLong();
+    private volatile long lastBuiltAt;
+    // 마지막으로 DB 와 맞춘 시각 (System.currentTimeMillis), 이 값이 오래되면 필터를 믿지 않음
+    private volatile long lastSyncedAt;
+
+    // 갱신 기준점 (rebuild/refresh 에서만 변경, this 로 보호)
+    private long userIdWatermark;
+    private long companyIdWatermark;
+    private LocalDateTime updatedWatermark;
+
+    private ScheduledExecutorService scheduler;
+
+    private Counter negativeCounter;
+    private Counter positiveCounter;
+
+    @PostConstruct
+    public void init() {
+        negativeCounter = Counter.builder("existence.filter.lookups").tag("result", "negative").register(meterRegistry);
+        positiveCounter = Counter.builder("existence.filter.lookups").tag("result", "positive").register(meterRegistry);
+    }
+
+    // 기동을 막지 않도록 애플리케이션 준비 후 별도 스레드에서 생성하고, 이후 주기적으로 변경분 반영
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "existence-filter-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::rebuild);
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        BloomFilter next = new BloomFilter(expectedInsertions, fpp);
+        building = next;
+        AtomicLong count = new AtomicLong();
+        AtomicLong maxUserId = new AtomicLong();
+        AtomicLong maxCompanyId = new AtomicLong();
+
+        try {
+            // 읽기 시작 전 DB 시각을 기준점으로 (읽는 동안의 수정은 다음 갱신에서 다시 읽음)
+            LocalDateTime startedAt = userMapper.currentTimestamp();
+            long syncedAt = System.currentTimeMillis();
+            userMapper.scanUserIdentities(context -> {
+                putRow(next, USER_EMAIL, USER_PHONE, context.getResultObject(), maxUserId);
+                count.incrementAndGet();
+            });
+            companyMapper.scanCompanyIdentities(context -> {
+                putRow(next, COMPANY_EMAIL, COMPANY_PHONE, context.getResultObject(), maxCompanyId);
+                count.incrementAndGet();
+            });
+
+            userIdWatermark = maxUserId.get();
+            companyIdWatermark = maxCompanyId.get();
+            updatedWatermark = startedAt.minusSeconds(refreshOverlapSeconds);
+            current = next;
+            loadedEntries.set(count.get());
+            lastSyncedAt = syncedAt;
+            lastBuiltAt = System.currentTimeMillis();
+            logger.info("가입 정보 블룸 필터 생성 완료: {}건, {}ms", count.get(), lastBuiltAt - start);
+        } catch (Exception e) {
+            // 실패 시 기존 필터(또는 DB 직접 조회)를 계속 사용
+            logger.error("가입 정보 블룸 필터 생성 실패: {}", e.getMessage(), e);
+        } finally {
+            building = null;
+        }
+    }
+
+    // 기준점 이후 다른 노드에서 가입/수정된 행을 현재 필터에 추가
+    synchronized void refresh() {
+        BloomFilter filter = current;
+        if (filter == null) {
+            // 최초 생성이 실패한 경우 다시 시도
+            rebuild();
+            return;
+        }
+        try {
+            LocalDateTime startedAt = userMapper.currentTimestamp();
+            long syncedAt = System.currentTimeMillis();
+            AtomicLong maxUserId = new AtomicLong(userIdWatermark);
+            AtomicLong maxCompanyId = new AtomicLong(companyIdWatermark);
+            AtomicLong count = new AtomicLong();
+
+            userMapper.scanUserIdentitiesSince(userIdWatermark, updatedWatermark, context -> {
+                putRow(filter, USER_EMAIL, USER_PHONE, context.getResultObject(), maxUserId);
+                count.incrementAndGet();
+            });
+            companyMapper.scanCompanyIdentitiesSince(companyIdWatermark, updatedWatermark, context -> {
+                putRow(filter, COMPANY_EMAIL, COMPANY_PHONE, context.getResultObject(), maxCompanyId);
+                count.incrementAndGet();
+            });
+
+            userIdWatermark = maxUserId.get();
+            companyIdWatermark = maxCompanyId.get();
+            updatedWatermark = startedAt.minusSeconds(refreshOverlapSeconds);
+            lastSyncedAt = syncedAt;
+            if (count.get() > 0) {
+                logger.debug("가입 정보 블룸 필터 갱신: {}건", count.get());
+            }
+        } catch (Exception e) {
+            // 실패가 이어져 max-staleness 를 넘으면 mightContain 이 DB 조회로 전환
+            logger.warn("가입 정보 블룸 필터 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean mightContainUserEmail(String email) {
+        return mightContain(USER_EMAIL, normalizeEmail(email));
+    }
+
+    @Override
+    public boolean mightContainUserPhone(String phone) {
+        return mightContain(USER_PHONE, normalizePhone(phone));
+    }
+
+    @Override
+    public boolean mightContainCompanyEmail(String email) {
+        return mightContain(COMPANY_EMAIL, normalizeEmail(email));
+    }
+
+    @Override
+    public boolean mightContainCompanyPhone(String phone) {
+        return mightContain(COMPANY_PHONE, normalizePhone(phone));
+    }
+
+    @Override
+    public void addUser(String email, String phone) {
+        add(USER_EMAIL, normalizeEmail(email));
+        add(USER_PHONE, normalizePhone(phone));
+    }
+
+    @Override
+    public void addCompany(String email, String phone) {
+        add(COMPANY_EMAIL, normalizeEmail(email));
+        add(COMPANY_PHONE, normalizePhone(phone));
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        BloomFilter filter = current;
+        stats.put("enabled", enabled);
+        stats.put("ready", filter != null);
+        stats.put("rebuilding", building != null);
+        stats.put("loadedEntries", loadedEntries.get());
+        stats.put("lastBuiltAt", lastBuiltAt);
+        stats.put("lastSyncedAt", lastSyncedAt);
+        stats.put("trusted", isTrusted(filter));
+        if (filter != null) {
+            stats.put("bitSize", filter.getBitSize());
+            stats.put("hashFunctions", filter.getHashFunctions());
+            stats.put("fillRatio", filter.fillRatio());
+        }
+        stats.put("negativeLookups", negativeCounter.count());
+        stats.put("positiveLookups", positiveCounter.count());
+        return stats;
+    }
+
+    private boolean mightContain(String prefix, String value) {
+        BloomFilter filter = current;
+        if (!enabled || !isTrusted(filter) || value == null) {
+            return true;
+        }
+        if (filter.mightContain(prefix + value)) {
+            positiveCounter.increment();
+            return true;
+        }
+        negativeCounter.increment();
+        return false;
+    }
+
+    private void add(String prefix, String value) {
+        if (value == null) {
+            return;
+        }
+        // building 을 먼저 읽어야 재생성 완료 직후(current 교체 → building 해제) 에도 누락되지 않음
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(prefix + value);
+        }
+        BloomFilter filter = current;
+        if (filter != null && filter != next) {
+            filter.put(prefix + value);
+        }
+    }
+
+    // 최근 max-staleness-seconds 안에 DB 와 맞춘 필터만 "없음" 응답을 믿음
+    private boolean isTrusted(BloomFilter filter) {
+        return filter != null
+                && System.currentTimeMillis() - lastSyncedAt <= TimeUnit.SECONDS.toMillis(maxStalenessSeconds);
+    }
+
+    private void putRow(BloomFilter filter, String emailPrefix, String phonePrefix,
+                        Map<String, Object> row, AtomicLong maxId) {
+        putIfPresent(filter, emailPrefix, normalizeEmail((String) row.get("email")));
+        putIfPresent(filter, phonePrefix, normalizePhone((String) row.get("phone")));
+        Object id = row.get("id");
+        if (id instanceof Number number && number.longValue() > maxId.get()) {
+            maxId.set(number.longValue());
+        }
+    }
+
+    private void putIfPresent(BloomFilter filter, String prefix, String value) {
+        if (value != null) {
+            filter.put(prefix + value);
+        }
+    }
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 통일
+    private String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 하이픈 유무만 다른 번호도 같은 키로 취급 (오탐만 늘 뿐 누락은 생기지 않음)
+    private String normalizePhone(String phone) {
+        if (phone == null || phone.isBlank()) {
+            return null;
+        }
+        return phone.replaceAll("\\D", "");
+    }
+}
@@ -2,13 +2,65 @@ package com.jobjob.albaing.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Map;
+
 public interface FileService {
     /**
      * 업로드된 파일을 저장하고 저장된 파일 경로(URL)를 반환합니다.
+     * 크기 제한을 넘거나 허용되지 않는 형식이면 저장 도중 중단하고 UploadRejectedException 을 던집니다.
      *
      * @param file 업로드할 MultipartFile 객체
-     * @return 저장된 파일의 경로 (URL)
+     * @return 저장된 파일의 URL (/media/{내용 키})
      */
     String uploadFile(MultipartFile file);
-}
 
+    /**
+     * 요청 본문 등 스트림을 그대로 저장합니다 (메모리에 모으지 않음).
+     *
+     * @return 저장된 파일의 URL (/media/{내용 키})
+     */
+    String uploadStream(InputStream in);
+
+    /**
+     * 스트림을 내용 주소 저장소에 저장하고 참조를 하나 추가합니다.
+     * 같은 내용이 이미 있으면 디스크에 다시 쓰지 않습니다.
+     *
+     * @return 내용 키 ({sha256 hex}.{확장자}), 같은 내용이면 항상 같은 값
+     */
+    String storeContent(InputStream in);
+
+    // 내용 키 → 저장 경로
+    String pathOf(String contentKey);
+
+    // 내용 키 → 공개 URL
+    String urlOf(String contentKey);
+
+    // 저장 URL 또는 경로 → 내용 키 (내용 주소 저장소 밖의 예전 값이면 null)
+    String contentKeyOf(String storedUrl);
+
+    /**
+     * 미디어 파일 이름(원본, 썸네일, manifest) → 디스크 경로
+     * 내용 주소 형식이 아닌 이름은 null (경로 조작 방지)
+     */
+    Path resolveMedia(String fileName);
+
+    /**
+     * 이미지 URL 의 썸네일 URL 목록 (최대 변 길이 → URL, 원본은 "original")
+     * 썸네일이 아직 없거나 내용 주소 저장소 밖의 URL 이면 원본만 포함합니다.
+     */
+    Map<String, String> imageVariantsOf(String storedUrl);
+
+    /**
+     * 이미 저장된 URL 의 참조를 하나 추가합니다 (업로드 없이 기존 URL 을 다른 행에 저장할 때).
+     * 내용 주소 저장소 밖의 URL 이면 아무 것도 하지 않습니다.
+     */
+    void retain(String storedUrl);
+
+    /**
+     * 저장 URL 의 참조를 하나 해제합니다 (프로필 이미지 교체, 회원 탈퇴 등).
+     * 파일은 바로 지우지 않고, 참조가 없는 채로 유예 기간이 지나면 정리됩니다.
+     */
+    void release(String storedUrl);
+}
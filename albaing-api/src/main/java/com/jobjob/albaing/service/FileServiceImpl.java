@@ -1,48 +1,269 @@
 package com.jobjob.albaing.service;
 
+import com.jobjob.albaing.exception.UploadRejectedException;
+import com.jobjob.albaing.mapper.FileBlobMapper;
+import com.jobjob.albaing.util.ContentSniffer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.UUID;
-import java.io.File;
-
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
+/**
+ * 업로드 파일을 내용(SHA-256) 주소로 저장합니다.
+ * - 앞부분(매직 바이트)만 먼저 읽어 형식을 확인하고, 나머지는 고정 크기 버퍼로 읽으면서
+ *   해시 계산과 디스크 기록을 함께 처리 (파일을 두 번 읽지 않음)
+ * - 크기 제한을 넘는 순간 중단하므로 큰 파일을 끝까지 읽지 않음
+ * - 같은 디스크의 .tmp 폴더에 쓴 뒤 rename 하므로 완성되지 않은 파일이 노출되지 않음
+ * - 저장 위치는 uploads/{해시 앞 2자}/{다음 2자}/{해시}.{확장자} 로 나누어 한 폴더의 파일 수를 제한
+ * - 같은 내용은 한 번만 저장하고 file_blobs.ref_count 로 참조 수를 관리
+ *   (업로드마다 참조 1개 추가, DB 저장에 실패하거나 교체/삭제되면 호출한 쪽에서 release)
+ * - 저장 후 썸네일 생성은 ImageDerivativeService 에 맡김 (응답을 기다리게 하지 않음)
+ */
 @Service
 public class FileServiceImpl implements FileService {
-    private final String uploadDir = System.getProperty("user.dir") + "/uploads/";
+
+    private static final Logger logger = LoggerFactory.getLogger(FileServiceImpl.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{64}\\.[a-z]+");
+    // 원본, 썸네일({해시}_{크기}), manifest 모두 같은 샤드 폴더에 있음
+    private static final Pattern MEDIA_NAME = Pattern.compile("[0-9a-f]{64}(_[0-9]+)?\\.[a-z]+");
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    private FileBlobMapper fileBlobMapper;
+
+    @Value("${upload.dir:${user.dir}/uploads/}")
+    private String uploadDir;
+
+    @Value("${media.base-url:/media/}")
+    private String mediaBaseUrl;
+
+    @Value("${upload.max-bytes:5242880}")
+    private long maxBytes;
+
+    @Value("${upload.allowed-types:JPEG,PNG,GIF,WEBP}")
+    private Set<ContentSniffer.Type> allowedTypes;
+
+    private Path tempDir;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!uploadDir.endsWith("/")) {
+            uploadDir += "/";
+        }
+        if (!mediaBaseUrl.endsWith("/")) {
+            mediaBaseUrl += "/";
+        }
+        // 디렉토리 생성 (없다면)
+        Files.createDirectories(Paths.get(uploadDir));
+        tempDir = Files.createDirectories(Paths.get(uploadDir, ".tmp"));
+    }
 
     @Override
     public String uploadFile(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new UploadRejectedException("파일이 비어 있습니다.");
+        }
+        if (file.getSize() > maxBytes) {
+            throw new UploadRejectedException(tooLargeMessage());
+        }
         try {
-            if (file.isEmpty()) {
-                throw new IllegalArgumentException("파일이 비어 있습니다.");
-            }
+            return uploadStream(file.getInputStream());
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String uploadStream(InputStream in) {
+        String contentKey = storeContent(in);
+        imageDerivativeService.enqueue(pathOf(contentKey));
+        return urlOf(contentKey);
+    }
+
+    @Override
+    public String storeContent(InputStream in) {
+        // 디스크에 있는 업로드 임시 파일이면 FileChannel 을 직접 사용
+        try (InputStream input = in;
+             ReadableByteChannel source = input instanceof FileInputStream fileInput
+                     ? fileInput.getChannel() : Channels.newChannel(input)) {
+            return store(source);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String pathOf(String contentKey) {
+        return uploadDir + contentKey.substring(0, 2) + "/" + contentKey.substring(2, 4) + "/" + contentKey;
+    }
+
+    @Override
+    public String urlOf(String contentKey) {
+        return mediaBaseUrl + contentKey;
+    }
 
-            // 디렉토리 생성 (없다면)
-            Files.createDirectories(Paths.get(uploadDir));
+    @Override
+    public String contentKeyOf(String storedUrl) {
+        if (storedUrl == null) {
+            return null;
+        }
+        String fileName = storedUrl.substring(storedUrl.lastIndexOf('/') + 1);
+        if (!CONTENT_KEY.matcher(fileName).matches()) {
+            return null;
+        }
+        // 이 저장소가 만든 URL 또는 경로만 인정
+        return storedUrl.equals(urlOf(fileName)) || storedUrl.equals(pathOf(fileName)) ? fileName : null;
+    }
+
+    @Override
+    public Path resolveMedia(String fileName) {
+        if (fileName == null || !MEDIA_NAME.matcher(fileName).matches()) {
+            return null;
+        }
+        return Paths.get(pathOf(fileName));
+    }
+
+    @Override
+    public Map<String, String> imageVariantsOf(String storedUrl) {
+        if (storedUrl == null || storedUrl.isBlank()) {
+            return Map.of();
+        }
+        String contentKey = contentKeyOf(storedUrl);
+        if (contentKey == null) {
+            return Map.of("original", storedUrl);
+        }
+        // manifest 의 디스크 경로 → 같은 폴더 파일 이름 → /media/ URL
+        Map<String, String> variants = new LinkedHashMap<>();
+        imageDerivativeService.variantsOf(pathOf(contentKey)).forEach((size, path) ->
+                variants.put(size, urlOf(path.substring(path.lastIndexOf('/') + 1))));
+        return variants;
+    }
+
+    @Override
+    public void retain(String storedUrl) {
+        String contentKey = contentKeyOf(storedUrl);
+        if (contentKey != null) {
+            fileBlobMapper.retain(contentKey);
+        }
+    }
+
+    @Override
+    public void release(String storedUrl) {
+        String contentKey = contentKeyOf(storedUrl);
+        if (contentKey == null) {
+            return;
+        }
+        try {
+            fileBlobMapper.release(contentKey);
+        } catch (Exception e) {
+            // 해제 실패는 정리가 늦어질 뿐이므로 요청은 계속 진행
+            logger.warn("파일 참조 해제 실패: {}", contentKey, e);
+        }
+    }
 
-            // 원본 파일명에서 확장자 추출
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
+    private String store(ReadableByteChannel source) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        boolean moved = false;
+        try {
+            ContentSniffer.Type type;
+            MessageDigest digest = sha256();
+            long written = 0;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                // 1. 형식 판별에 필요한 앞부분만 읽어 확인
+                ByteBuffer head = ByteBuffer.allocate(ContentSniffer.HEAD_SIZE);
+                while (head.hasRemaining() && source.read(head) != -1) {
+                    // 앞부분이 모일 때까지 읽음
+                }
+                head.flip();
+                if (!head.hasRemaining()) {
+                    throw new UploadRejectedException("파일이 비어 있습니다.");
+                }
+                type = ContentSniffer.detect(head);
+                if (type == null || !allowedTypes.contains(type)) {
+                    throw new UploadRejectedException("이미지 파일(" + allowedTypes + ")만 업로드 가능합니다.");
+                }
+
+                written += writeAndDigest(out, head, digest);
 
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+                // 2. 나머지는 버퍼 단위로 해시 계산 + 기록, 제한을 넘는 순간 중단
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    written += writeAndDigest(out, buffer, digest);
+                    buffer.clear();
+                    if (written > maxBytes) {
+                        throw new UploadRejectedException(tooLargeMessage());
+                    }
+                }
             }
 
-            // 중복 방지를 위한 UUID 적용 파일명 생성
-            String newFileName = UUID.randomUUID() + extension;
-            String filePath = uploadDir + newFileName;
+            // 3. 내용 키 위치로 이동, 같은 내용이 이미 있으면 임시 파일만 버림
+            String contentKey = HexFormat.of().formatHex(digest.digest()) + "." + type.getExtension();
+            Path target = Paths.get(pathOf(contentKey));
+            if (Files.exists(target)) {
+                // 정리 작업(UploadGcService)이 유예 기간 안의 파일로 보도록 수정 시각 갱신
+                Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+            } else {
+                Files.createDirectories(target.getParent());
+                // 동시에 같은 내용이 올라와도 내용이 같으므로 덮어써도 무방 (원자적 rename)
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                moved = true;
+            }
+            fileBlobMapper.acquire(contentKey, written);
+            return contentKey;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
 
-            // 파일 저장
-            file.transferTo(new File(filePath));
+    private static int writeAndDigest(FileChannel out, ByteBuffer buffer, MessageDigest digest) throws IOException {
+        digest.update(buffer.duplicate());
+        int count = 0;
+        while (buffer.hasRemaining()) {
+            count += out.write(buffer);
+        }
+        return count;
+    }
 
-            System.out.println("DEBUG: 파일 저장 완료 - " + filePath);
-            return filePath; // 저장된 파일 경로 반환
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 중 오류 발생: " + e.getMessage(), e);
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
+
+    private String tooLargeMessage() {
+        return "파일 크기는 " + (maxBytes / (1024 * 1024)) + "MB를 초과할 수 없습니다.";
+    }
 }
@@ -5,7 +5,6 @@ import com.jobjob.albaing.dto.User;
 import com.jobjob.albaing.mapper.CompanyMapper;
 import com.jobjob.albaing.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,7 +17,7 @@ public class FindServiceImpl implements FindService {
     private CompanyMapper companyMapper;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Override
     public User findUserEmail(String userName, String userPhone) {
@@ -33,24 +32,24 @@ public class FindServiceImpl implements FindService {
     @Override
     public boolean verifyUserCredentials(String email, String password) {
         User user = userMapper.getUserByEmail(email);
-        return user != null && passwordEncoder.matches(password, user.getUserPassword());
+        return user != null && passwordHashingService.matches(password, user.getUserPassword());
     }
 
     @Override
     public boolean verifyCompanyCredentials(String email, String password) {
         Company company = companyMapper.getCompanyByEmail(email);
-        return company != null && passwordEncoder.matches(password, company.getCompanyPassword());
+        return company != null && passwordHashingService.matches(password, company.getCompanyPassword());
     }
 
     @Override
     public void resetUserPassword(String userEmail, String newPassword) {
-        String encodedPassword = passwordEncoder.encode(newPassword); // 암호화 추가
+        String encodedPassword = passwordHashingService.encode(newPassword); // 암호화 추가
         userMapper.updateUserPassword(userEmail, encodedPassword);
     }
 
     @Override
     public void resetCompanyPassword(String companyEmail, String newPassword) {
-        String encodedPassword = passwordEncoder.encode(newPassword);
+        String encodedPassword = passwordHashingService.encode(newPassword);
         companyMapper.updateCompanyPassword(companyEmail, encodedPassword);
     }
 }
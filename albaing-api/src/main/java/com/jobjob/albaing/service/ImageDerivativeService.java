@@ -0,0 +1,25 @@
+package com.jobjob.albaing.service;
+
+import java.util.Map;
+
+/**
+ * 업로드 이미지의 썸네일(여러 크기) 생성.
+ * 원본 옆에 크기별 파일과 목록(manifest)을 만들며, 같은 이미지를 여러 번 요청해도 한 번만 생성합니다.
+ */
+public interface ImageDerivativeService {
+
+    /**
+     * 썸네일 생성 작업 등록 (대기열이 가득 차면 건너뛰고 false)
+     * @param storedPath FileService 가 반환한 저장 경로
+     */
+    boolean enqueue(String storedPath);
+
+    // 원본 경로 → manifest 경로
+    String manifestPathOf(String storedPath);
+
+    /**
+     * 생성된 썸네일 목록 (최대 변 길이 → 저장 경로, 원본은 "original")
+     * 아직 생성되지 않았으면 원본만 포함합니다.
+     */
+    Map<String, String> variantsOf(String storedPath);
+}
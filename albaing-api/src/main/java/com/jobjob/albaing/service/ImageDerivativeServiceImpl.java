@@ -0,0 +1,308 @@
+package com.jobjob.albaing.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 직후 백그라운드에서 고정 크기 썸네일을 만듭니다.
+ * - 작업자 수와 대기열 크기가 고정된 스레드풀에서 처리 (요청 스레드는 등록만 함)
+ * - 큰 원본은 디코딩 단계에서 서브샘플링하여 메모리 사용을 줄임
+ * - 썸네일과 manifest 는 임시 파일에 쓴 뒤 rename, manifest 가 마지막이므로
+ *   manifest 가 있으면 생성 완료로 보고 재시도해도 다시 만들지 않음
+ *
+ * 파일 이름: {원본이름}_{크기}.jpg (투명 배경이면 .png), manifest: {원본이름}.json
+ * manifest 에는 같은 폴더 기준 파일 이름만 기록 (서버 경로를 노출하지 않고 /media/ 로 그대로 제공 가능)
+ */
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageDerivativeServiceImpl.class);
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 썸네일 최대 변 길이 (px)
+    @Value("${image.derivatives.sizes:64,160,400}")
+    private List<Integer> sizes;
+
+    @Value("${image.derivatives.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${image.derivatives.workers:2}")
+    private int workers;
+
+    @Value("${image.derivatives.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${image.derivatives.manifest-cache-size:10000}")
+    private int manifestCacheSize;
+
+    // 디코딩을 거부할 원본 픽셀 수 (압축 폭탄 방지)
+    @Value("${image.derivatives.max-pixels:50000000}")
+    private long maxPixels;
+
+    private ThreadPoolExecutor workerPool;
+    // 대기/처리 중인 원본 (중복 등록 방지)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // manifest 경로 → 크기별 파일 이름
+    private Map<String, Map<String, String>> manifestCache;
+
+    private Timer processTimer;
+    private Counter failedCounter;
+    private Counter skippedCounter;
+
+    @PostConstruct
+    public void init() {
+        manifestCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, String>> eldest) {
+                return size() > manifestCacheSize;
+            }
+        });
+
+        AtomicInteger sequence = new AtomicInteger();
+        workerPool = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivatives-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("image.derivatives.queue.depth", workerPool, e -> e.getQueue().size())
+                .register(meterRegistry);
+        processTimer = Timer.builder("image.derivatives.process").register(meterRegistry);
+        failedCounter = Counter.builder("image.derivatives.failed").register(meterRegistry);
+        skippedCounter = Counter.builder("image.derivatives.skipped").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+    @Override
+    public boolean enqueue(String storedPath) {
+        if (!pending.add(storedPath)) {
+            return true;
+        }
+        try {
+            workerPool.execute(() -> {
+                try {
+                    processTimer.record(() -> process(Paths.get(storedPath)));
+                } finally {
+                    pending.remove(storedPath);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pending.remove(storedPath);
+            skippedCounter.increment();
+            logger.warn("썸네일 대기열이 가득 차 건너뜀: {}", storedPath);
+            return false;
+        }
+    }
+
+    @Override
+    public String manifestPathOf(String storedPath) {
+        return baseName(storedPath) + ".json";
+    }
+
+    @Override
+    public Map<String, String> variantsOf(String storedPath) {
+        Map<String, String> names = manifestOf(storedPath);
+        if (names == null) {
+            return Map.of("original", storedPath);
+        }
+        String directory = storedPath.substring(0, storedPath.lastIndexOf('/') + 1);
+        Map<String, String> variants = new LinkedHashMap<>();
+        names.forEach((key, name) -> variants.put(key, directory + name));
+        return variants;
+    }
+
+    // 완성된 manifest 는 바뀌지 않으므로 목록 화면마다 디스크를 읽지 않도록 캐시 (없으면 캐시하지 않음)
+    private Map<String, String> manifestOf(String storedPath) {
+        String manifestPath = manifestPathOf(storedPath);
+        Map<String, String> cached = manifestCache.get(manifestPath);
+        if (cached != null) {
+            return cached;
+        }
+        Path manifest = Paths.get(manifestPath);
+        if (!Files.exists(manifest)) {
+            return null;
+        }
+        try {
+            Map<String, Object> parsed = objectMapper.readValue(manifest.toFile(), MAP_TYPE);
+            Map<String, String> names = new LinkedHashMap<>();
+            parsed.forEach((key, value) -> names.put(key, String.valueOf(value)));
+            Map<String, String> loaded = Collections.unmodifiableMap(names);
+            manifestCache.put(manifestPath, loaded);
+            return loaded;
+        } catch (IOException e) {
+            logger.warn("manifest 읽기 실패: {}", manifest, e);
+            return null;
+        }
+    }
+
+    private void process(Path original) {
+        Path manifest = Paths.get(manifestPathOf(original.toString()));
+        if (Files.exists(manifest) || !Files.exists(original)) {
+            return;
+        }
+        try {
+            BufferedImage source = decode(original);
+            if (source == null) {
+                skippedCounter.increment();
+                return;
+            }
+
+            Map<String, String> variants = new LinkedHashMap<>();
+            variants.put("original", original.getFileName().toString());
+            boolean alpha = source.getColorModel().hasAlpha();
+            int longest = Math.max(source.getWidth(), source.getHeight());
+
+            for (int size : sizes) {
+                if (size >= longest) {
+                    continue;   // 원본보다 큰 썸네일은 만들지 않음
+                }
+                Path target = Paths.get(baseName(original.toString()) + "_" + size + (alpha ? ".png" : ".jpg"));
+                if (!Files.exists(target)) {
+                    writeAtomically(target, resize(source, size, alpha), alpha);
+                }
+                variants.put(String.valueOf(size), target.getFileName().toString());
+            }
+
+            Path temp = Files.createTempFile(manifest.getParent(), ".manifest-", ".tmp");
+            objectMapper.writeValue(temp.toFile(), variants);
+            Files.move(temp, manifest, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (Exception e) {
+            failedCounter.increment();
+            logger.warn("썸네일 생성 실패: {}", original, e);
+        }
+    }
+
+    // 가장 큰 썸네일의 2배 이상 해상도만 남도록 서브샘플링하여 디코딩
+    private BufferedImage decode(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;    // 디코더가 없는 형식 (예: WEBP)
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    logger.warn("원본 해상도가 너무 커서 썸네일을 만들지 않음: {} ({}x{})", original, width, height);
+                    return null;
+                }
+
+                int largest = sizes.stream().max(Integer::compare).orElse(400);
+                int subsampling = Math.max(1, Math.max(width, height) / (largest * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int maxSide, boolean alpha) {
+        double scale = (double) maxSide / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void writeAtomically(Path target, BufferedImage image, boolean png) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            if (png) {
+                ImageIO.write(image, "png", temp.toFile());
+            } else {
+                ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+                try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                    writer.setOutput(out);
+                    ImageWriteParam param = writer.getDefaultWriteParam();
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(jpegQuality);
+                    param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                    writer.write(null, new IIOImage(image, null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String baseName(String storedPath) {
+        int dot = storedPath.lastIndexOf('.');
+        int slash = storedPath.lastIndexOf('/');
+        return dot > slash ? storedPath.substring(0, dot) : storedPath;
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobjob.albaing.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 저장소 (JVM 메모리).
+ * 최대 auth.token.revocation-capacity 개까지 보관하고, 만료된 항목을 정리해도 가득 차 있으면 새 등록을 거부합니다.
+ * (기존 항목을 버리면 이미 로그아웃한 토큰이 다시 유효해지므로 버리지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token.revocation-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryTokenRevocationStore.class);
+
+    @Value("${auth.token.revocation-capacity:10000}")
+    private int revocationCapacity;
+
+    // jti → 만료 시각(epoch seconds), 검증 시 잠금 없이 조회
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    // 같은 항목을 만료 시각 순으로 정렬 (만료 항목 정리용, 자신을 잠금으로 사용)
+    private final NavigableSet<Entry> revokedByExpiry = new TreeSet<>(
+            Comparator.comparingLong(Entry::exp).thenComparing(Entry::jti));
+
+    @Override
+    public boolean revoke(String jti, long exp) {
+        long now = System.currentTimeMillis() / 1000;
+        synchronized (revokedByExpiry) {
+            // 만료된 항목은 앞에서부터 정리 (전체를 훑지 않음)
+            while (!revokedByExpiry.isEmpty() && revokedByExpiry.first().exp() <= now) {
+                revoked.remove(revokedByExpiry.pollFirst().jti());
+            }
+            if (revoked.containsKey(jti)) {
+                return true;
+            }
+            if (revokedByExpiry.size() >= revocationCapacity) {
+                logger.warn("토큰 폐기 목록이 가득 차 등록을 거부합니다: capacity={}", revocationCapacity);
+                return false;
+            }
+            revokedByExpiry.add(new Entry(exp, jti));
+            revoked.put(jti, exp);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return revoked.containsKey(jti);
+    }
+
+    private record Entry(long exp, String jti) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.VerificationData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 인증 코드 저장소 (JVM 메모리).
+ *
+ * - 만료: 1초 단위 hashed timing wheel. 저장 시 만료 시각의 슬롯에 키를 넣고,
+ *   매 tick 마다 해당 슬롯의 키만 확인하여 만료된 항목을 제거합니다. (전체 순회 없음)
+ * - 용량: 최대 항목 수를 넘으면 overflow-policy 에 따라
+ *   가장 먼저 만료될 항목을 제거(evict-soonest)하거나 새 저장을 거부(reject)합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "verification.store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationStore implements VerificationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryVerificationStore.class);
+    private static final long TICK_MILLIS = 1000;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${verification.code-ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${verification.store.max-entries:100000}")
+    private int maxEntries;
+
+    // evict-soonest | reject
+    @Value("${verification.store.overflow-policy:evict-soonest}")
+    private String overflowPolicy;
+
+    private final ConcurrentHashMap<String, VerificationData> entries = new ConcurrentHashMap<>();
+
+    private Queue<String>[] wheel;
+    private int wheelMask;
+    private volatile long currentTick;
+    private ScheduledExecutorService ticker;
+
+    private Counter expiredCounter;
+    private Counter overflowEvictedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    public void init() {
+        // TTL 보다 큰 2의 거듭제곱 크기 → 모든 항목이 한 바퀴 안에 만료됨
+        int size = Integer.highestOneBit((int) Math.max(2, ttlSeconds + 2)) << 1;
+        wheel = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        wheelMask = size - 1;
+        currentTick = System.currentTimeMillis() / TICK_MILLIS;
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "verification-store-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("verification.store.size", entries, ConcurrentHashMap::size)
+                .description("저장된 인증 코드 수")
+                .register(meterRegistry);
+        expiredCounter = Counter.builder("verification.store.evictions").tag("reason", "expired").register(meterRegistry);
+        overflowEvictedCounter = Counter.builder("verification.store.evictions").tag("reason", "overflow").register(meterRegistry);
+        rejectedCounter = Counter.builder("verification.store.rejected").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    @Override
+    public void saveCode(String email, int code) {
+        long expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+        put(email, new VerificationData(code, expiresAt, false));
+    }
+
+    @Override
+    public boolean verifyCode(String email, int code) {
+        VerificationData data = get(email);
+        return data != null && data.getCode() != VerificationData.NO_CODE && data.getCode() == code;
+    }
+
+    @Override
+    public void markVerified(String email) {
+        long now = System.currentTimeMillis();
+        VerificationData updated = entries.computeIfPresent(email,
+                (key, data) -> data.isExpired(now) ? null : data.withVerified());
+        if (updated == null) {
+            put(email, new VerificationData(VerificationData.NO_CODE, now + ttlSeconds * 1000, true));
+        }
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        VerificationData data = get(email);
+        return data != null && data.isVerified();
+    }
+
+    @Override
+    public void remove(String email) {
+        entries.remove(email);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private VerificationData get(String email) {
+        VerificationData data = entries.get(email);
+        if (data != null && data.isExpired(System.currentTimeMillis())) {
+            entries.remove(email, data);
+            return null;
+        }
+        return data;
+    }
+
+    private void put(String email, VerificationData data) {
+        if (!entries.containsKey(email) && entries.size() >= maxEntries) {
+            if ("reject".equalsIgnoreCase(overflowPolicy) || !evictSoonest()) {
+                rejectedCounter.increment();
+                throw new IllegalStateException("인증 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        entries.put(email, data);
+        wheel[(int) (data.getExpiresAt() / TICK_MILLIS) & wheelMask].offer(email);
+    }
+
+    // 현재 tick 부터 순서대로 슬롯을 살펴 가장 먼저 만료될 항목 하나를 제거
+    private boolean evictSoonest() {
+        long tick = currentTick;
+        for (int i = 0; i <= wheelMask; i++) {
+            Queue<String> slot = wheel[(int) (tick + i) & wheelMask];
+            String email;
+            while ((email = slot.poll()) != null) {
+                if (entries.remove(email) != null) {
+                    overflowEvictedCounter.increment();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 지난 tick 의 슬롯들을 비우면서 만료된 항목 제거
+    private void advance() {
+        try {
+            long now = System.currentTimeMillis();
+            long targetTick = now / TICK_MILLIS;
+            while (currentTick <= targetTick) {
+                Queue<String> slot = wheel[(int) currentTick & wheelMask];
+                int pending = slot.size();
+                for (int i = 0; i < pending; i++) {
+                    String email = slot.poll();
+                    if (email == null) {
+                        break;
+                    }
+                    VerificationData data = entries.get(email);
+                    if (data == null) {
+                        continue;
+                    }
+                    if (data.isExpired(now)) {
+                        if (entries.remove(email, data)) {
+                            expiredCounter.increment();
+                        }
+                    } else if (data.getExpiresAt() / TICK_MILLIS == currentTick) {
+                        // 현재 tick 안에서 아직 만료 전이면 다시 넣어 다음 tick 에 처리
+                        slot.offer(email);
+                    }
+                    // 그 외: 다시 저장되어 다른 슬롯에 예약된 항목
+                }
+                if (currentTick == targetTick) {
+                    break;
+                }
+                currentTick++;
+            }
+        } catch (Exception e) {
+            logger.error("인증 코드 만료 처리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+}
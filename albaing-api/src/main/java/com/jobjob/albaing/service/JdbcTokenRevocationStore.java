@@ -0,0 +1,157 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.mapper.RevokedTokenMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL(revoked_tokens 테이블) 기반 폐기 토큰 저장소.
+ * 노드 A 에서 로그아웃한 토큰을 노드 B 에서도 거부합니다.
+ *
+ * - 등록은 DB 에 먼저 저장하고, 저장에 실패하면 false (로그아웃 실패)
+ * - 검증은 메모리 복사본으로 확인하고, refresh-seconds 마다 기준점 이후 폐기된 행만 읽어 추가
+ *   (다른 노드의 로그아웃은 최대 refresh-seconds 뒤에 반영)
+ * - 갱신이 max-staleness-seconds 넘게 실패하면 요청마다 DB 를 직접 조회
+ * - 만료된 행은 주기적으로 batch-size 건씩 나누어 삭제
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token.revocation-store", havingValue = "jdbc")
+public class JdbcTokenRevocationStore implements TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcTokenRevocationStore.class);
+
+    @Autowired
+    private RevokedTokenMapper revokedTokenMapper;
+
+    @Value("${auth.token.enabled:false}")
+    private boolean enabled;
+
+    @Value("${auth.token.revocation-refresh-seconds:5}")
+    private long refreshSeconds;
+
+    @Value("${auth.token.revocation-refresh-overlap-seconds:5}")
+    private long refreshOverlapSeconds;
+
+    @Value("${auth.token.revocation-max-staleness-seconds:30}")
+    private long maxStalenessSeconds;
+
+    @Value("${auth.token.revocation-sweep-interval-seconds:60}")
+    private long sweepIntervalSeconds;
+
+    @Value("${auth.token.revocation-sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    // jti → 만료 시각(epoch seconds), 이 노드에서 등록했거나 DB 에서 읽어 온 항목
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // 갱신 기준점 (DB 시각, refresh 에서만 변경, this 로 보호), null 이면 전체 조회
+    private LocalDateTime revokedWatermark;
+    private volatile long lastSyncedAt;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::refresh);
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+        scheduler.scheduleWithFixedDelay(this::sweepExpired, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean revoke(String jti, long exp) {
+        try {
+            revokedTokenMapper.insertRevoked(jti, exp);
+        } catch (Exception e) {
+            logger.error("토큰 폐기 등록 실패: {}", e.getMessage(), e);
+            return false;
+        }
+        revoked.put(jti, exp);
+        return true;
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        if (revoked.containsKey(jti)) {
+            return true;
+        }
+        if (System.currentTimeMillis() - lastSyncedAt <= TimeUnit.SECONDS.toMillis(maxStalenessSeconds)) {
+            return false;
+        }
+        // 메모리 복사본이 오래됨: 다른 노드의 로그아웃을 놓치지 않도록 직접 조회 (조회도 실패하면 거부)
+        try {
+            return revokedTokenMapper.isRevoked(jti, System.currentTimeMillis() / 1000);
+        } catch (Exception e) {
+            logger.warn("토큰 폐기 여부 조회 실패: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    // 기준점 이후 다른 노드에서 폐기된 행을 메모리에 추가
+    synchronized void refresh() {
+        try {
+            LocalDateTime startedAt = revokedTokenMapper.currentTimestamp();
+            long syncedAt = System.currentTimeMillis();
+            long now = syncedAt / 1000;
+
+            revokedTokenMapper.scanRevokedSince(revokedWatermark, now, context -> {
+                Map<String, Object> row = context.getResultObject();
+                revoked.put((String) row.get("jti"), ((Number) row.get("exp")).longValue());
+            });
+            revoked.values().removeIf(exp -> exp <= now);
+
+            // 읽는 동안 커밋된 행을 다음 갱신에서 다시 읽도록 겹쳐서 조회
+            revokedWatermark = startedAt.minusSeconds(refreshOverlapSeconds);
+            lastSyncedAt = syncedAt;
+        } catch (Exception e) {
+            // 실패가 이어져 max-staleness 를 넘으면 isRevoked 가 DB 조회로 전환
+            logger.warn("폐기 토큰 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 만료된 행을 batch 단위로 반복 삭제
+    private void sweepExpired() {
+        try {
+            long now = System.currentTimeMillis() / 1000;
+            int total = 0;
+            int deleted;
+            do {
+                deleted = revokedTokenMapper.deleteExpired(now, sweepBatchSize);
+                total += deleted;
+            } while (deleted == sweepBatchSize);
+
+            if (total > 0) {
+                logger.debug("만료된 폐기 토큰 {}건 삭제", total);
+            }
+        } catch (Exception e) {
+            logger.error("만료된 폐기 토큰 삭제 중 오류: {}", e.getMessage(), e);
+        }
+    }
+}
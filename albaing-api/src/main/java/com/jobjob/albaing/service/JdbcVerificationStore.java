@@ -0,0 +1,144 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.mapper.VerificationMapper;
+import com.jobjob.albaing.model.vo.VerificationData;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL(email_verifications 테이블) 기반 인증 코드 저장소.
+ * 노드 A 에서 보낸 코드를 노드 B 에서 확인할 수 있어 sticky 라우팅이 필요 없습니다.
+ *
+ * - 만료 항목은 주기적으로 batch-size 건씩 나누어 삭제합니다. (긴 잠금 방지)
+ * - 회원가입 시 확인하는 "인증 완료" 여부는 짧은 기간 로컬 near-cache 에 보관합니다.
+ *   (인증 완료 → 회원가입은 보통 같은 노드에서 바로 이어지므로 DB 재조회를 줄임)
+ */
+@Component
+@ConditionalOnProperty(name = "verification.store.type", havingValue = "jdbc")
+public class JdbcVerificationStore implements VerificationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcVerificationStore.class);
+
+    @Autowired
+    private VerificationMapper verificationMapper;
+
+    @Value("${verification.code-ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${verification.store.sweep-interval-seconds:60}")
+    private long sweepIntervalSeconds;
+
+    @Value("${verification.store.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    @Value("${verification.store.near-cache-ttl-seconds:30}")
+    private long nearCacheTtlSeconds;
+
+    @Value("${verification.store.near-cache-max-entries:10000}")
+    private int nearCacheMaxEntries;
+
+    // email → near-cache 만료 시각 (인증 완료된 항목만 보관)
+    private final ConcurrentHashMap<String, Long> verifiedNearCache = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void init() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "verification-store-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweepExpired, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    @Override
+    public void saveCode(String email, int code) {
+        verifiedNearCache.remove(email);
+        verificationMapper.upsertCode(email, code, System.currentTimeMillis() + ttlSeconds * 1000);
+    }
+
+    @Override
+    public boolean verifyCode(String email, int code) {
+        Integer stored = verificationMapper.findValidCode(email, System.currentTimeMillis());
+        return stored != null && stored != VerificationData.NO_CODE && stored == code;
+    }
+
+    @Override
+    public void markVerified(String email) {
+        long now = System.currentTimeMillis();
+        verificationMapper.upsertVerified(email, VerificationData.NO_CODE, now + ttlSeconds * 1000, now);
+        cacheVerified(email, now);
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        long now = System.currentTimeMillis();
+        Long cachedUntil = verifiedNearCache.get(email);
+        if (cachedUntil != null) {
+            if (cachedUntil > now) {
+                return true;
+            }
+            verifiedNearCache.remove(email, cachedUntil);
+        }
+
+        Boolean verified = verificationMapper.findValidVerified(email, now);
+        if (Boolean.TRUE.equals(verified)) {
+            cacheVerified(email, now);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void remove(String email) {
+        verifiedNearCache.remove(email);
+        verificationMapper.deleteByEmail(email);
+    }
+
+    private void cacheVerified(String email, long now) {
+        if (verifiedNearCache.size() >= nearCacheMaxEntries) {
+            verifiedNearCache.values().removeIf(until -> until <= now);
+            if (verifiedNearCache.size() >= nearCacheMaxEntries) {
+                return;
+            }
+        }
+        verifiedNearCache.put(email, now + nearCacheTtlSeconds * 1000);
+    }
+
+    // 만료된 항목을 batch 단위로 반복 삭제
+    private void sweepExpired() {
+        try {
+            long now = System.currentTimeMillis();
+            int total = 0;
+            int deleted;
+            do {
+                deleted = verificationMapper.deleteExpired(now, sweepBatchSize);
+                total += deleted;
+            } while (deleted == sweepBatchSize);
+
+            verifiedNearCache.values().removeIf(until -> until <= now);
+            if (total > 0) {
+                logger.debug("만료된 인증 코드 {}건 삭제", total);
+            }
+        } catch (Exception e) {
+            logger.error("만료된 인증 코드 삭제 중 오류: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.OAuthProfile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class KakaoOAuthProvider extends AbstractOAuthProvider {
+
+    public KakaoOAuthProvider(@Value("${kakao.client-id}") String clientId,
+                              @Value("${kakao.client-secret}") String clientSecret,
+                              @Value("${kakao.redirect-uri}") String redirectUri,
+                              @Value("${kakao.auth-base-url:https://kauth.kakao.com}") String authBaseUrl,
+                              @Value("${kakao.api-base-url:https://kapi.kakao.com}") String apiBaseUrl) {
+        super("kakao", clientId, clientSecret, redirectUri,
+                authBaseUrl + "/oauth/authorize",
+                authBaseUrl + "/oauth/token",
+                apiBaseUrl + "/v2/user/me",
+                "profile_nickname,profile_image,account_email,name,gender,birthday,birthyear");
+    }
+
+    // { id, properties: { nickname, profile_image }, kakao_account: { email, gender, birthday, birthyear } }
+    @Override
+    protected OAuthProfile parseProfile(Map<String, Object> userInfo) {
+        String kakaoId = text(userInfo, "id");
+        if (kakaoId.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> properties = child(userInfo, "properties");
+        Map<String, Object> kakaoAccount = child(userInfo, "kakao_account");
+
+        return new OAuthProfile(getName(), kakaoId,
+                text(kakaoAccount, "email"),
+                text(properties, "nickname"),
+                text(properties, "profile_image"),
+                text(kakaoAccount, "gender"),
+                text(kakaoAccount, "birthday"),
+                text(kakaoAccount, "birthyear"));
+    }
+}
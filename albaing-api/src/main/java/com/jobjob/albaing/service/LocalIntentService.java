@@ -0,0 +1,17 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.util.NgramTfIdfClassifier;
+
+/**
+ * 네트워크 없이 동작하는 로컬 인텐트 분류기 (Dialogflow 인텐트 내보내기 파일로 학습).
+ */
+public interface LocalIntentService {
+
+    /**
+     * @return 가장 비슷한 인텐트, 비슷한 학습 문구가 없으면 null
+     */
+    NgramTfIdfClassifier.Match classify(String message);
+
+    // 인텐트의 기본 응답
+    String answerOf(String intent);
+}
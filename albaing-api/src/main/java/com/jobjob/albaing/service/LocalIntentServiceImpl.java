@@ -0,0 +1,74 @@
+package com.jobjob.albaing.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobjob.albaing.util.NgramTfIdfClassifier;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학습 파일 형식: { "intents": [ { "name", "answer", "phrases": [...] } ] }
+ * 기동 시 한 번 학습하고, 이후 분류는 메모리 안에서만 처리합니다.
+ */
+@Service
+public class LocalIntentServiceImpl implements LocalIntentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalIntentServiceImpl.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${chatbot.local.intents-file:classpath:chatbot/intents.json}")
+    private Resource intentsFile;
+
+    @Value("${chatbot.local.min-ngram:2}")
+    private int minNgram;
+
+    @Value("${chatbot.local.max-ngram:3}")
+    private int maxNgram;
+
+    @Value("${chatbot.cache.fold-jamo:true}")
+    private boolean foldJamo;
+
+    private NgramTfIdfClassifier classifier;
+    private final Map<String, String> answers = new HashMap<>();
+
+    @PostConstruct
+    public void init() throws IOException {
+        Map<String, List<String>> phrasesByIntent = new LinkedHashMap<>();
+        try (InputStream in = intentsFile.getInputStream()) {
+            for (JsonNode intent : objectMapper.readTree(in).path("intents")) {
+                String name = intent.path("name").asText();
+                List<String> phrases = new ArrayList<>();
+                intent.path("phrases").forEach(phrase -> phrases.add(phrase.asText()));
+                phrasesByIntent.put(name, phrases);
+                answers.put(name, intent.path("answer").asText());
+            }
+        }
+        classifier = new NgramTfIdfClassifier(phrasesByIntent, minNgram, maxNgram, foldJamo);
+        logger.info("로컬 인텐트 분류기 학습 완료 (인텐트 {}개)", phrasesByIntent.size());
+    }
+
+    @Override
+    public NgramTfIdfClassifier.Match classify(String message) {
+        return classifier.classify(message);
+    }
+
+    @Override
+    public String answerOf(String intent) {
+        return answers.get(intent);
+    }
+}
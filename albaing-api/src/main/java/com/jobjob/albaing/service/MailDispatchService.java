@@ -0,0 +1,27 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.MailContent;
+import com.jobjob.albaing.model.vo.MailJob;
+
+import java.util.List;
+import java.util.Map;
+
+public interface MailDispatchService {
+
+    /**
+     * 메일을 발송 대기열에 넣고 바로 반환합니다. 실제 SMTP 발송은 워커 스레드에서 처리됩니다.
+     * @return 상태 조회용 메일 ID
+     * @throws IllegalStateException 대기열이 가득 찬 경우
+     */
+    String enqueue(String to, MailContent content);
+
+    /**
+     * 발송 상태 (알 수 없거나 보관 기간이 지난 ID 면 null)
+     */
+    MailJob.Status getStatus(String mailId);
+
+    // 재시도 횟수를 모두 소진한 메일 (최근 항목부터)
+    List<MailJob> getDeadLetters();
+
+    Map<String, Object> stats();
+}
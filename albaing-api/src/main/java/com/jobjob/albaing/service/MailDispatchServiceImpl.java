@@ -0,0 +1,237 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.MailContent;
+import com.jobjob.albaing.model.vo.MailJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Message;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 비동기 발송.
+ * 요청 스레드는 대기열에 넣기만 하고, 워커 스레드가 SMTP 발송을 처리합니다.
+ * 실패 시 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 dead-letter 로 옮깁니다.
+ */
+@Service
+public class MailDispatchServiceImpl implements MailDispatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailDispatchServiceImpl.class);
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${mail.dispatch.workers:4}")
+    private int workers;
+
+    @Value("${mail.dispatch.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${mail.dispatch.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${mail.dispatch.initial-backoff-ms:2000}")
+    private long initialBackoffMs;
+
+    @Value("${mail.dispatch.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    // 완료된 메일의 상태 보관 기간
+    @Value("${mail.dispatch.status-retention-seconds:1800}")
+    private long statusRetentionSeconds;
+
+    @Value("${mail.dispatch.dead-letter-capacity:1000}")
+    private int deadLetterCapacity;
+
+    private final Map<String, MailJob> jobs = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<MailJob> deadLetters = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger deadLetterCount = new AtomicInteger();
+    private final AtomicInteger retryScheduled = new AtomicInteger();
+
+    private ThreadPoolExecutor workerPool;
+    private ScheduledExecutorService scheduler;
+
+    private Timer sendTimer;
+    private Counter sentCounter;
+    private Counter failedAttemptCounter;
+    private Counter deadLetterCounter;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        workerPool = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-dispatch-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-dispatch-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::purgeFinished, 60, 60, TimeUnit.SECONDS);
+
+        Gauge.builder("mail.dispatch.queue.depth", workerPool, e -> e.getQueue().size())
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.dispatch.retry.pending", retryScheduled, AtomicInteger::get)
+                .description("재시도 대기 중인 메일 수")
+                .register(meterRegistry);
+        sendTimer = Timer.builder("mail.dispatch.send.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        sentCounter = Counter.builder("mail.dispatch.sent").register(meterRegistry);
+        failedAttemptCounter = Counter.builder("mail.dispatch.failed.attempts").register(meterRegistry);
+        deadLetterCounter = Counter.builder("mail.dispatch.dead.letters").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workerPool.shutdown();
+        try {
+            // 대기 중인 메일을 잠시 더 발송
+            workerPool.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String enqueue(String to, MailContent content) {
+        MailJob job = new MailJob(UUID.randomUUID().toString(), to, content);
+        jobs.put(job.getId(), job);
+        try {
+            workerPool.execute(() -> send(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new IllegalStateException("메일 발송 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job.getId();
+    }
+
+    @Override
+    public MailJob.Status getStatus(String mailId) {
+        MailJob job = mailId != null ? jobs.get(mailId) : null;
+        return job != null ? job.getStatus() : null;
+    }
+
+    @Override
+    public List<MailJob> getDeadLetters() {
+        return new ArrayList<>(deadLetters);
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueDepth", workerPool.getQueue().size());
+        stats.put("activeWorkers", workerPool.getActiveCount());
+        stats.put("retryPending", retryScheduled.get());
+        stats.put("trackedJobs", jobs.size());
+        stats.put("sent", sentCounter.count());
+        stats.put("failedAttempts", failedAttemptCounter.count());
+        stats.put("deadLetters", deadLetterCounter.count());
+        return stats;
+    }
+
+    private void send(MailJob job) {
+        job.markSending();
+        long start = System.nanoTime();
+        try {
+            // 첨부파일이 없으므로 multipart 대신 단일 text/html 본문, 제목은 템플릿에서 미리 인코딩된 값 사용
+            MailContent content = job.getContent();
+            MimeMessage message = mailSender.createMimeMessage();
+            message.setRecipient(Message.RecipientType.TO, new InternetAddress(job.getTo()));
+            message.setHeader("Subject", content.getEncodedSubject());
+            message.setText(content.getHtmlBody(), "UTF-8", "html");
+            mailSender.send(message);
+
+            job.markSent();
+            sentCounter.increment();
+        } catch (Exception e) {
+            failedAttemptCounter.increment();
+            handleFailure(job, e);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void handleFailure(MailJob job, Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+
+        if (job.getAttempts() >= maxAttempts) {
+            job.markFailed(error);
+            deadLetter(job);
+            logger.error("메일 발송 최종 실패 (id={}, attempts={}): {}", job.getId(), job.getAttempts(), error);
+            return;
+        }
+
+        // 지수 백오프 + jitter
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << (job.getAttempts() - 1));
+        backoff += ThreadLocalRandom.current().nextLong(backoff / 4 + 1);
+
+        job.markRetrying(error);
+        retryScheduled.incrementAndGet();
+        logger.warn("메일 발송 실패, {}ms 후 재시도 (id={}, attempt={}): {}", backoff, job.getId(), job.getAttempts(), error);
+
+        scheduler.schedule(() -> {
+            retryScheduled.decrementAndGet();
+            try {
+                workerPool.execute(() -> send(job));
+            } catch (RejectedExecutionException rejected) {
+                job.markFailed("재시도 대기열 초과");
+                deadLetter(job);
+            }
+        }, backoff, TimeUnit.MILLISECONDS);
+    }
+
+    private void deadLetter(MailJob job) {
+        deadLetters.addFirst(job);
+        deadLetterCounter.increment();
+        if (deadLetterCount.incrementAndGet() > deadLetterCapacity) {
+            deadLetters.pollLast();
+            deadLetterCount.decrementAndGet();
+        }
+    }
+
+    // 보관 기간이 지난 완료 메일 상태 정리
+    private void purgeFinished() {
+        long threshold = System.currentTimeMillis() - statusRetentionSeconds * 1000;
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt() < threshold);
+    }
+}
@@ -0,0 +1,14 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.MailContent;
+import com.jobjob.albaing.model.vo.MailTemplate;
+
+import java.util.Map;
+
+public interface MailTemplateService {
+
+    /**
+     * 미리 컴파일된 템플릿에 변수 값을 끼워 넣어 메일 내용을 만듭니다. (값은 HTML 이스케이프)
+     */
+    MailContent render(MailTemplate template, Map<String, String> variables);
+}
@@ -0,0 +1,41 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.OAuthProfile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class NaverOAuthProvider extends AbstractOAuthProvider {
+
+    public NaverOAuthProvider(@Value("${naver.client-id}") String clientId,
+                              @Value("${naver.client-secret}") String clientSecret,
+                              @Value("${naver.redirect-url}") String redirectUri,
+                              @Value("${naver.auth-base-url:https://nid.naver.com}") String authBaseUrl,
+                              @Value("${naver.api-base-url:https://openapi.naver.com}") String apiBaseUrl) {
+        super("naver", clientId, clientSecret, redirectUri,
+                authBaseUrl + "/oauth2.0/authorize",
+                authBaseUrl + "/oauth2.0/token",
+                apiBaseUrl + "/v1/nid/me",
+                "profile_nickname,profile_image,account_email,name,gender,birthday,birthyear");
+    }
+
+    // { response: { id, nickname, profile_image, email, gender, birthday(MM-dd), birthyear } }
+    @Override
+    protected OAuthProfile parseProfile(Map<String, Object> userInfo) {
+        Map<String, Object> response = child(userInfo, "response");
+        String naverId = text(response, "id");
+        if (naverId.isEmpty()) {
+            return null;
+        }
+
+        return new OAuthProfile(getName(), naverId,
+                text(response, "email"),
+                text(response, "nickname"),
+                text(response, "profile_image"),
+                text(response, "gender"),
+                text(response, "birthday").replace("-", ""),   // 08-29 → 0829
+                text(response, "birthyear"));
+    }
+}
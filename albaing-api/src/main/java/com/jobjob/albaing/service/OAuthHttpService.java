@@ -0,0 +1,16 @@
+package com.jobjob.albaing.service;
+
+import java.util.Map;
+
+/**
+ * 소셜 로그인 제공자(카카오, 네이버) API 호출용 공유 HTTP 클라이언트.
+ * 실패(타임아웃, 비정상 응답, 파싱 오류) 시 null 을 반환합니다.
+ */
+public interface OAuthHttpService {
+
+    // 폼 인코딩 POST (토큰 발급)
+    Map<String, Object> postForm(String provider, String endpoint, String url, Map<String, String> form);
+
+    // Bearer 토큰 POST (사용자 정보 조회)
+    Map<String, Object> postWithBearer(String provider, String endpoint, String url, String accessToken);
+}
@@ -0,0 +1,177 @@
+package com.jobjob.albaing.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JDK HttpClient 하나를 모든 요청이 공유합니다 (keep-alive, HTTP/2 우선, TLS 세션 재사용).
+ * 제공자별로 응답 타임아웃과 동시 연결 수를 설정할 수 있습니다.
+ * 예) oauth.http.kakao.response-timeout-ms=3000, oauth.http.kakao.max-connections=20
+ */
+@Service
+public class OAuthHttpServiceImpl implements OAuthHttpService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OAuthHttpServiceImpl.class);
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${oauth.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${oauth.http.response-timeout-ms:5000}")
+    private long defaultResponseTimeoutMs;
+
+    @Value("${oauth.http.max-connections:20}")
+    private int defaultMaxConnections;
+
+    // 유휴 연결 유지 시간
+    @Value("${oauth.http.keep-alive-seconds:30}")
+    private int keepAliveSeconds;
+
+    @Value("${oauth.http.executor-threads:4}")
+    private int executorThreads;
+
+    private HttpClient httpClient;
+    private ExecutorService executor;
+    private final Map<String, Semaphore> connectionPermits = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        // JDK HttpClient 연결 풀의 유휴 연결 유지 시간 (시스템 속성으로만 설정 가능)
+        if (System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+            System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(keepAliveSeconds));
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(executorThreads, runnable -> {
+            Thread thread = new Thread(runnable, "oauth-http-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(executor)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Override
+    public Map<String, Object> postForm(String provider, String endpoint, String url, Map<String, String> form) {
+        StringJoiner body = new StringJoiner("&");
+        form.forEach((name, value) -> body.add(URLEncoder.encode(name, StandardCharsets.UTF_8)
+                + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/x-www-form-urlencoded;charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+        return send(provider, endpoint, request);
+    }
+
+    @Override
+    public Map<String, Object> postWithBearer(String provider, String endpoint, String url, String accessToken) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + accessToken)
+                .POST(HttpRequest.BodyPublishers.noBody());
+        return send(provider, endpoint, request);
+    }
+
+    private Map<String, Object> send(String provider, String endpoint, HttpRequest.Builder builder) {
+        long startNanos = System.nanoTime();
+        String outcome = "success";
+        Semaphore permits = connectionPermits.computeIfAbsent(provider, key ->
+                new Semaphore(environment.getProperty("oauth.http." + key + ".max-connections",
+                        Integer.class, defaultMaxConnections)));
+        boolean acquired = false;
+        try {
+            // 풀이 가득 차면 연결 타임아웃만큼만 대기
+            acquired = permits.tryAcquire(connectTimeoutMs, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                outcome = "pool_exhausted";
+                logger.warn("{} {} 호출 대기 초과 (동시 연결 한도)", provider, endpoint);
+                return null;
+            }
+
+            long responseTimeoutMs = environment.getProperty("oauth.http." + provider + ".response-timeout-ms",
+                    Long.class, defaultResponseTimeoutMs);
+            HttpRequest request = builder
+                    .timeout(Duration.ofMillis(responseTimeoutMs))
+                    .header("Accept", "application/json")
+                    .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+            if (response.statusCode() / 100 != 2) {
+                outcome = "http_" + response.statusCode() / 100 + "xx";
+                logger.warn("{} {} 호출 실패: status={}", provider, endpoint, response.statusCode());
+                return null;
+            }
+            return objectMapper.readValue(response.body(), MAP_TYPE);
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+            logger.warn("{} {} 호출 타임아웃: {}", provider, endpoint, e.getMessage());
+            return null;
+        } catch (IOException e) {
+            outcome = "io_error";
+            logger.warn("{} {} 호출 오류: {}", provider, endpoint, e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+            return null;
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+            Timer.builder("oauth.http.requests")
+                    .tag("provider", provider)
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
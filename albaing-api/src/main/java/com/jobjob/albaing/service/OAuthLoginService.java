@@ -0,0 +1,19 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.model.vo.OAuthProfile;
+
+public interface OAuthLoginService {
+
+    // 이름에 해당하는 제공자 (없으면 null)
+    OAuthProvider getProvider(String name);
+
+    /**
+     * 소셜 계정에 연결된 유저 조회 (없으면 null).
+     * 연결 정보가 없는 기존 회원은 이메일로 찾아 연결합니다.
+     */
+    User findUser(OAuthProfile profile);
+
+    // 회원가입 완료 후 소셜 계정 연결
+    void linkIdentity(OAuthProfile profile, long userId);
+}
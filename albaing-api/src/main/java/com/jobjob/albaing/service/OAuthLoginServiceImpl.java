@@ -0,0 +1,63 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.mapper.OAuthIdentityMapper;
+import com.jobjob.albaing.mapper.UserMapper;
+import com.jobjob.albaing.model.vo.OAuthProfile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class OAuthLoginServiceImpl implements OAuthLoginService {
+
+    @Autowired
+    private OAuthIdentityMapper oAuthIdentityMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private SessionProfileService sessionProfileService;
+
+    private final Map<String, OAuthProvider> providers = new HashMap<>();
+
+    @Autowired
+    public void setProviders(List<OAuthProvider> providerList) {
+        providerList.forEach(provider -> providers.put(provider.getName(), provider));
+    }
+
+    @Override
+    public OAuthProvider getProvider(String name) {
+        return providers.get(name);
+    }
+
+    @Override
+    public User findUser(OAuthProfile profile) {
+        // 재방문: 캐시 또는 연결 테이블 조회 한 번
+        User user = sessionProfileService.getUserByIdentity(profile.getProvider(), profile.getProviderUserId());
+        if (user != null) {
+            return user;
+        }
+
+        // 연결 정보가 없는 기존 회원: 이메일로 한 번 조회 후 연결
+        // (블룸 필터는 다른 노드의 최근 가입을 아직 모를 수 있으므로 생략하지 않음, 첫 소셜 로그인에만 발생)
+        String email = profile.getEmail();
+        if (email.isEmpty()) {
+            return null;
+        }
+        user = userMapper.getUserByEmail(email);
+        if (user != null) {
+            linkIdentity(profile, user.getUserId());
+        }
+        return user;
+    }
+
+    @Override
+    public void linkIdentity(OAuthProfile profile, long userId) {
+        oAuthIdentityMapper.linkIdentity(profile.getProvider(), profile.getProviderUserId(), userId);
+    }
+}
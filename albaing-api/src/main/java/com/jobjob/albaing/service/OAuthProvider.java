@@ -0,0 +1,24 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.OAuthProfile;
+
+/**
+ * 소셜 로그인 제공자 어댑터.
+ * 새 제공자는 AbstractOAuthProvider 를 상속한 빈 하나로 추가합니다.
+ */
+public interface OAuthProvider {
+
+    // 경로 및 식별용 이름 (/oauth/{name}/login)
+    String getName();
+
+    // 회원가입 화면으로 넘길 때 사용하는 파라미터 이름 (예: kakaoId)
+    String getRegisterParam();
+
+    String getAuthorizationUrl();
+
+    /**
+     * 인가 코드로 토큰 발급 후 사용자 정보 조회
+     * @return 실패 시 null
+     */
+    OAuthProfile fetchProfile(String code);
+}
@@ -0,0 +1,33 @@
+package com.jobjob.albaing.service;
+
+import java.util.function.Consumer;
+
+public interface PasswordHashingService {
+
+    /**
+     * 평문 비밀번호를 BCrypt 로 암호화합니다.
+     * 요청 스레드가 아닌 전용 스레드풀에서 실행되며, 대기열이 가득 차면
+     * PasswordHashingRejectedException 이 발생합니다.
+     */
+    String encode(String rawPassword);
+
+    /**
+     * 평문 비밀번호와 저장된 해시의 일치 여부를 확인합니다. (전용 스레드풀에서 실행)
+     */
+    boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * 저장된 해시의 cost 가 현재 보정된 cost 와 다른지 확인합니다.
+     */
+    boolean needsRehash(String encodedPassword);
+
+    /**
+     * 현재 cost 로 비밀번호를 다시 암호화한 뒤 store 로 전달합니다. (비동기, 대기열이 가득 차면 생략)
+     */
+    void rehashInBackground(String rawPassword, Consumer<String> store);
+
+    /**
+     * 기동 시 보정된 BCrypt cost
+     */
+    int getStrength();
+}
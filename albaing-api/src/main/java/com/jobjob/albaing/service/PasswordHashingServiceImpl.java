@@ -0,0 +1,263 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * BCrypt 연산 전용 실행 레인.
+ * CPU 코어 수 만큼의 스레드와 크기가 제한된 대기열을 사용하여,
+ * 로그인 요청이 몰려도 Tomcat 요청 스레드 전체가 해싱에 묶이지 않도록 합니다.
+ * BCrypt cost 는 기동 시 실제 하드웨어에서 측정하여 목표 지연시간에 맞게 결정합니다.
+ */
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingServiceImpl.class);
+
+    // cost 보정 시 측정 기준 cost (cost 가 1 오를 때마다 해싱 시간은 약 2배)
+    private static final int CALIBRATION_BASE_STRENGTH = 8;
+    private static final int CALIBRATION_ROUNDS = 5;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 이하이면 CPU 코어 수 사용
+    @Value("${password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    // 대기열 + 해싱 전체 허용 시간
+    @Value("${password-hashing.timeout-ms:3000}")
+    private long timeoutMs;
+
+    // 해시 1회 목표 소요시간 (p50)
+    @Value("${password-hashing.target-latency-ms:150}")
+    private long targetLatencyMs;
+
+    @Value("${password-hashing.min-strength:10}")
+    private int minStrength;
+
+    @Value("${password-hashing.max-strength:14}")
+    private int maxStrength;
+
+    // 0 보다 크면 보정하지 않고 해당 cost 를 고정 사용
+    @Value("${password-hashing.strength:0}")
+    private int fixedStrength;
+
+    private int strength;
+    private BCryptPasswordEncoder passwordEncoder;
+    private ThreadPoolExecutor executor;
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Timer queueWaitTimer;
+    private Counter rejectedCounter;
+    private Counter rehashCounter;
+
+    @PostConstruct
+    public void init() {
+        strength = fixedStrength > 0 ? fixedStrength : calibrateStrength();
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("BCrypt 대기열에 쌓인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("BCrypt 연산 중인 스레드 수")
+                .register(meterRegistry);
+
+        encodeTimer = Timer.builder("password.hashing.latency")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        matchesTimer = Timer.builder("password.hashing.latency")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("password.hashing.rejected")
+                .register(meterRegistry);
+        rehashCounter = Counter.builder("password.hashing.rehashed")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.strength", this, PasswordHashingServiceImpl::getStrength)
+                .register(meterRegistry);
+
+        logger.info("비밀번호 해싱 스레드풀 초기화: threads={}, queueCapacity={}, strength={}",
+                poolSize, queueCapacity, strength);
+    }
+
+    /**
+     * 기준 cost 로 몇 차례 해싱 시간을 측정한 뒤(중앙값),
+     * 목표 지연시간을 넘지 않는 가장 높은 cost 를 선택합니다.
+     */
+    private int calibrateStrength() {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_BASE_STRENGTH);
+        String sample = "albaing-calibration";
+
+        // JIT 워밍업
+        for (int i = 0; i < 3; i++) {
+            probe.encode(sample);
+        }
+
+        long[] elapsed = new long[CALIBRATION_ROUNDS];
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode(sample);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        double baseMillis = elapsed[CALIBRATION_ROUNDS / 2] / 1_000_000.0;
+
+        int calibrated = CALIBRATION_BASE_STRENGTH;
+        while (calibrated < maxStrength
+                && baseMillis * (1L << (calibrated + 1 - CALIBRATION_BASE_STRENGTH)) <= targetLatencyMs) {
+            calibrated++;
+        }
+        calibrated = Math.max(minStrength, calibrated);
+
+        logger.info("BCrypt cost 보정 완료: cost {} 기준 {}ms → 선택된 cost={} (목표 {}ms)",
+                CALIBRATION_BASE_STRENGTH, String.format("%.1f", baseMillis), calibrated, targetLatencyMs);
+        return calibrated;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        // BCrypt 해시 형식: $2a$10$...
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void rehashInBackground(String rawPassword, Consumer<String> store) {
+        try {
+            CompletableFuture
+                    .supplyAsync(() -> {
+                        long start = System.nanoTime();
+                        try {
+                            return passwordEncoder.encode(rawPassword);
+                        } finally {
+                            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        }
+                    }, executor)
+                    .thenAccept(store)
+                    .whenComplete((ignored, e) -> {
+                        if (e != null) {
+                            logger.warn("비밀번호 재해싱 실패: {}", e.getMessage());
+                        } else {
+                            rehashCounter.increment();
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            // 재해싱은 다음 로그인 때 다시 시도하면 되므로 혼잡 시에는 생략
+            logger.debug("해싱 대기열이 가득 차 재해싱을 생략합니다.");
+        }
+    }
+
+    @Override
+    public int getStrength() {
+        return strength;
+    }
+
+    private <T> T execute(Timer latencyTimer, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    latencyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.jobjob.albaing.service;
+
+/**
+ * 엔드포인트별 요청 한도 (IP 기준 / 이메일 기준 토큰 버킷).
+ * 한도를 넘으면 RateLimitExceededException 이 발생합니다.
+ */
+public interface RateLimitService {
+
+    String SEND_CODE = "send-code";
+    String CHECK_CODE = "check-code";
+    String LOGIN = "login";
+    String UPLOAD_CREATE = "upload-create";
+
+    void checkIp(String endpoint, String clientIp);
+
+    void checkEmail(String endpoint, String email);
+}
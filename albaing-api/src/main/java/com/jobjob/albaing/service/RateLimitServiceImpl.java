@@ -0,0 +1,127 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.exception.RateLimitExceededException;
+import com.jobjob.albaing.util.TokenBucketLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정책 형식: rate-limit.{endpoint}.{ip|email}=버스트허용량,분당충전량
+ * 예) rate-limit.send-code.email=3,1 → 연속 3회, 이후 1분에 1회
+ *
+ * 키 테이블(rate-limit.max-keys)이 가득 찼을 때: 이메일 키는 IP 한도만 적용, IP 키는 거부
+ */
+@Service
+public class RateLimitServiceImpl implements RateLimitService {
+
+    // 오래 쓰지 않은 버킷 정리 주기
+    private static final long SWEEP_INTERVAL_SECONDS = 60;
+
+    // 설정이 없을 때 기본 정책
+    private static final Map<String, String> DEFAULT_POLICIES = Map.of(
+            SEND_CODE + ".ip", "10,10",
+            SEND_CODE + ".email", "3,1",
+            CHECK_CODE + ".ip", "30,30",
+            CHECK_CODE + ".email", "10,2",
+            LOGIN + ".ip", "30,30",
+            LOGIN + ".email", "10,5",
+            UPLOAD_CREATE + ".ip", "5,2");
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    // 정책별 최대 키 수
+    @Value("${rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    private final Map<String, TokenBucketLimiter> limiters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+    private final Map<String, Counter> overflowCounters = new HashMap<>();
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void init() {
+        DEFAULT_POLICIES.forEach((name, defaultPolicy) -> {
+            String[] policy = environment.getProperty("rate-limit." + name, defaultPolicy).split(",");
+            limiters.put(name, new TokenBucketLimiter(
+                    Integer.parseInt(policy[0].trim()), Double.parseDouble(policy[1].trim()), maxKeys));
+
+            String[] parts = name.split("\\.");
+            rejectedCounters.put(name, Counter.builder("rate.limit.rejected")
+                    .tag("endpoint", parts[0])
+                    .tag("key", parts[1])
+                    .register(meterRegistry));
+            overflowCounters.put(name, Counter.builder("rate.limit.overflow")
+                    .tag("endpoint", parts[0])
+                    .tag("key", parts[1])
+                    .register(meterRegistry));
+        });
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(() -> limiters.values().forEach(TokenBucketLimiter::evictIdle),
+                SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    @Override
+    public void checkIp(String endpoint, String clientIp) {
+        // IP 테이블이 가득 차면 새 IP 는 정리 주기 동안 거부 (IP 한도가 마지막 방어선)
+        check(endpoint + ".ip", clientIp, true);
+    }
+
+    @Override
+    public void checkEmail(String endpoint, String email) {
+        if (email == null || email.isBlank()) {
+            return;
+        }
+        // 이메일 테이블이 가득 차면 이미 적용된 IP 한도만 적용 (다른 사용자를 막지 않음)
+        check(endpoint + ".email", email.trim().toLowerCase(Locale.ROOT), false);
+    }
+
+    private void check(String name, String key, boolean denyOnOverflow) {
+        TokenBucketLimiter limiter = limiters.get(name);
+        if (!enabled || limiter == null || key == null) {
+            return;
+        }
+        long waitMillis = limiter.tryAcquire(key);
+        if (waitMillis == TokenBucketLimiter.OVERFLOW) {
+            overflowCounters.get(name).increment();
+            if (denyOnOverflow) {
+                rejectedCounters.get(name).increment();
+                throw new RateLimitExceededException(SWEEP_INTERVAL_SECONDS);
+            }
+            return;
+        }
+        if (waitMillis > 0) {
+            rejectedCounters.get(name).increment();
+            throw new RateLimitExceededException(Math.max(1, (waitMillis + 999) / 1000));
+        }
+    }
+}
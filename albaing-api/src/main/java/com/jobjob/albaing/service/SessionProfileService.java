@@ -0,0 +1,29 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.Company;
+import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.model.vo.SessionPrincipal;
+
+public interface SessionProfileService {
+
+    /**
+     * 세션 principal 에 해당하는 유저 전체 프로필 (캐시 사용, 비밀번호 제외)
+     */
+    User getUserProfile(SessionPrincipal principal);
+
+    /**
+     * 세션 principal 에 해당하는 기업 전체 프로필 (캐시 사용, 비밀번호 제외)
+     */
+    Company getCompanyProfile(SessionPrincipal principal);
+
+    /**
+     * 소셜 계정에 연결된 유저 프로필 (캐시 사용, 비밀번호 제외).
+     * 새로 로그인한 principal(version 1)과 같은 캐시 항목을 사용합니다.
+     */
+    User getUserByIdentity(String provider, String providerUserId);
+
+    // 프로필 수정/탈퇴 시 캐시 제거
+    void evictUser(long userId);
+
+    void evictCompany(long companyId);
+}
@@ -0,0 +1,157 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.dto.Company;
+import com.jobjob.albaing.dto.User;
+import com.jobjob.albaing.mapper.CompanyMapper;
+import com.jobjob.albaing.mapper.OAuthIdentityMapper;
+import com.jobjob.albaing.mapper.UserMapper;
+import com.jobjob.albaing.model.vo.SessionPrincipal;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 사용자의 전체 프로필을 필요할 때만 DB 에서 읽어 LRU + TTL 캐시에 보관합니다.
+ * 캐시 키에 principal 의 version 이 포함되므로, 세션에서 프로필이 갱신되면 예전 항목은 사용되지 않습니다.
+ */
+@Service
+public class SessionProfileServiceImpl implements SessionProfileService {
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private CompanyMapper companyMapper;
+
+    @Autowired
+    private OAuthIdentityMapper oAuthIdentityMapper;
+
+    @Value("${session-profile.cache-size:1000}")
+    private int cacheSize;
+
+    @Value("${session-profile.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Map<String, CachedProfile> cache;
+
+    // 소셜 계정("kakao:123") → userId
+    private Map<String, Long> identityIndex;
+
+    private record CachedProfile(Object profile, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedProfile> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        identityIndex = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public User getUserProfile(SessionPrincipal principal) {
+        if (principal == null || principal.isCompany()) {
+            return null;
+        }
+        return (User) load(principal, () -> {
+            User user = userMapper.getUserById(principal.getId());
+            if (user != null) {
+                user.setUserPassword(null);
+            }
+            return user;
+        });
+    }
+
+    @Override
+    public Company getCompanyProfile(SessionPrincipal principal) {
+        if (principal == null || !principal.isCompany()) {
+            return null;
+        }
+        return (Company) load(principal, () -> {
+            Company company = companyMapper.companyDetail(principal.getId());
+            if (company != null) {
+                company.setCompanyPassword(null);
+            }
+            return company;
+        });
+    }
+
+    @Override
+    public User getUserByIdentity(String provider, String providerUserId) {
+        String identityKey = provider + ":" + providerUserId;
+        long now = System.currentTimeMillis();
+
+        Long userId = identityIndex.get(identityKey);
+        if (userId != null) {
+            CachedProfile cached = cache.get(userKey(userId));
+            if (cached != null && cached.expiresAt() > now) {
+                return (User) cached.profile();
+            }
+        }
+
+        User user = oAuthIdentityMapper.findUserByIdentity(provider, providerUserId);
+        if (user == null) {
+            identityIndex.remove(identityKey);
+            return null;
+        }
+        user.setUserPassword(null);
+        identityIndex.put(identityKey, user.getUserId());
+        cache.put(userKey(user.getUserId()), new CachedProfile(user, now + ttlSeconds * 1000));
+        return user;
+    }
+
+    @Override
+    public void evictUser(long userId) {
+        evict("user-" + userId + "-");
+    }
+
+    @Override
+    public void evictCompany(long companyId) {
+        evict("company-" + companyId + "-");
+    }
+
+    private Object load(SessionPrincipal principal, Supplier<Object> loader) {
+        String key = keyPrefix(principal) + principal.getVersion();
+        long now = System.currentTimeMillis();
+
+        CachedProfile cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.profile();
+        }
+
+        Object profile = loader.get();
+        if (profile != null) {
+            cache.put(key, new CachedProfile(profile, now + ttlSeconds * 1000));
+        }
+        return profile;
+    }
+
+    private String keyPrefix(SessionPrincipal principal) {
+        return (principal.isCompany() ? "company-" : "user-") + principal.getId() + "-";
+    }
+
+    // 새 로그인 principal 은 version 1 부터 시작
+    private String userKey(long userId) {
+        return "user-" + userId + "-1";
+    }
+
+    private void evict(String prefix) {
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.jobjob.albaing.service;
+
+/**
+ * 폐기된 액세스 토큰(jti) 저장소.
+ * auth.token.revocation-store 로 구현을 선택합니다.
+ * - memory (기본): JVM 메모리 (단일 노드)
+ * - jdbc: MySQL 공유 테이블 (어느 노드에서 로그아웃해도 모든 노드에서 거부)
+ *
+ * 항목은 토큰 만료 시각(epoch seconds)까지만 보관합니다.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 폐기 등록
+     * @return 등록하지 못했으면 false (용량 초과, 저장소 오류)
+     */
+    boolean revoke(String jti, long exp);
+
+    // 요청마다 호출되므로 DB 를 조회하지 않고 메모리에서 확인
+    boolean isRevoked(String jti);
+}
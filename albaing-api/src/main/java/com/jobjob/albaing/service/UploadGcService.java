@@ -0,0 +1,19 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.UploadGcReport;
+
+/**
+ * 참조가 끊긴 업로드 파일 정리.
+ * 프로필 이미지/로고 교체나 회원 탈퇴 후 남은 파일을 유예 기간이 지나면 삭제합니다.
+ */
+public interface UploadGcService {
+
+    /**
+     * 한 번 정리 실행 (이미 실행 중이면 null)
+     * @param dryRun true 면 삭제하지 않고 대상만 보고
+     */
+    UploadGcReport run(boolean dryRun);
+
+    // 마지막 실행 결과 (실행 전이면 null)
+    UploadGcReport lastReport();
+}
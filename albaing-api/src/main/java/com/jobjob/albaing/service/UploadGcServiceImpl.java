@@ -0,0 +1,361 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.mapper.FileBlobMapper;
+import com.jobjob.albaing.model.vo.UploadGcReport;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 mark-and-sweep 정리.
+ * 1. mark: users/companies 의 이미지 참조를 MyBatis Cursor 로 한 행씩 읽어
+ *    내용 키 앞 16자리(64bit)만 정렬 배열에 모음 (참조 1개당 8바이트)
+ * 2. sweep: 샤드 폴더를 하나씩 열어 참조되지 않은 파일을 삭제 (폴더 전체를 메모리에 올리지 않음)
+ *    내용 주소 파일은 file_blobs 에서도 ref_count = 0 이고 해제 후 유예 기간이 지난 경우에만 삭제
+ *    (두 기준이 모두 "참조 없음" 이어야 지우므로 한쪽이 틀려도 파일을 남길 뿐 잘못 지우지 않음)
+ *
+ * - 마지막 수정 시각이 유예 기간 안인 파일은 건너뜀 (업로드 직후 아직 DB 에 저장되기 전인 파일 보호,
+ *   같은 내용을 다시 올리면 FileServiceImpl 이 수정 시각을 갱신함)
+ * - 64bit 접두사가 우연히 겹치면 파일을 남길 뿐 잘못 지우지 않음
+ * - 삭제 속도와 폴더 간 대기 시간을 제한해 서비스 디스크 I/O 를 방해하지 않음
+ * - 기본은 dry-run (삭제 대상만 보고), upload.gc.dry-run=false 로 실제 삭제
+ */
+@Service
+public class UploadGcServiceImpl implements UploadGcService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadGcServiceImpl.class);
+
+    private static final Pattern HEX2 = Pattern.compile("[0-9a-f]{2}");
+    // 원본({해시}.{확장자}), 썸네일({해시}_{크기}.{확장자}), manifest({해시}.json)
+    private static final Pattern MEDIA_NAME = Pattern.compile("([0-9a-f]{64})(_[0-9]+)?\\.[a-z]+");
+    private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{64}\\.[a-z]+");
+    // 예전 방식 파일의 썸네일/manifest 는 원본 이름 뒤에 _{크기} 를 붙이거나 확장자만 다름
+    private static final Pattern LEGACY_DERIVATIVE = Pattern.compile("(_[0-9]+)?\\.[A-Za-z0-9]+$");
+    private static final String TEMP_DIR = ".tmp";
+    private static final String MANIFEST_SUFFIX = ".json";
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private FileBlobMapper fileBlobMapper;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${upload.dir:${user.dir}/uploads/}")
+    private String uploadDir;
+
+    @Value("${upload.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${upload.gc.dry-run:true}")
+    private boolean dryRun;
+
+    @Value("${upload.gc.interval-hours:24}")
+    private long intervalHours;
+
+    @Value("${upload.gc.initial-delay-minutes:30}")
+    private long initialDelayMinutes;
+
+    @Value("${upload.gc.grace-hours:24}")
+    private long graceHours;
+
+    @Value("${upload.gc.deletes-per-second:50}")
+    private int deletesPerSecond;
+
+    @Value("${upload.gc.directory-pause-ms:5}")
+    private long directoryPauseMs;
+
+    @Value("${upload.gc.report-samples:50}")
+    private int reportSamples;
+
+    private ScheduledExecutorService scheduler;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile UploadGcReport lastReport;
+
+    @PostConstruct
+    public void init() {
+        if (!uploadDir.endsWith("/")) {
+            uploadDir += "/";
+        }
+        Gauge.builder("upload.gc.orphan.bytes", this, s -> s.lastReport != null ? s.lastReport.getOrphanBytes() : 0)
+                .register(meterRegistry);
+        Gauge.builder("upload.gc.deleted.bytes", this, s -> s.lastReport != null ? s.lastReport.getDeletedBytes() : 0)
+                .register(meterRegistry);
+
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upload-gc");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                run(dryRun);
+            } catch (Exception e) {
+                logger.warn("업로드 파일 정리 실패", e);
+            }
+        }, initialDelayMinutes, TimeUnit.HOURS.toMinutes(intervalHours), TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public UploadGcReport run(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            UploadGcReport report = new UploadGcReport(dryRun, reportSamples);
+            Marks marks = mark(report);
+            sweep(marks, report);
+            report.finish();
+            lastReport = report;
+            logger.info("업로드 파일 정리 {}: 참조 {}건, 검사 {}개, 대상 {}개({} bytes), 삭제 {}개, 유예 {}개, 참조 수 남음 {}개, {}ms, 예시 {}",
+                    dryRun ? "(dry-run)" : "", report.getReferences(), report.getScannedFiles(),
+                    report.getOrphanFiles(), report.getOrphanBytes(), report.getDeletedFiles(),
+                    report.getRecentFiles(), report.getHeldFiles(), report.getFinishedAt() - report.getStartedAt(),
+                    report.getSamples());
+            return report;
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일 정리 중 오류 발생: " + e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public UploadGcReport lastReport() {
+        return lastReport;
+    }
+
+    // 참조 목록 수집 (트랜잭션 없이 별도 세션으로 스트리밍)
+    private Marks mark(UploadGcReport report) throws IOException {
+        long[] prefixes = new long[1024];
+        int size = 0;
+        Set<String> legacyNames = new HashSet<>();
+
+        try (SqlSession session = sqlSessionFactory.openSession();
+             Cursor<String> references = session.getMapper(FileBlobMapper.class).streamReferences()) {
+            for (String reference : references) {
+                report.addReference();
+                String contentKey = fileService.contentKeyOf(reference);
+                if (contentKey != null) {
+                    if (size == prefixes.length) {
+                        prefixes = Arrays.copyOf(prefixes, size * 2);
+                    }
+                    prefixes[size++] = prefixOf(contentKey);
+                } else if (reference.startsWith(uploadDir) && reference.indexOf('/', uploadDir.length()) < 0) {
+                    // 내용 주소 저장 이전의 {UUID}.{확장자} 파일
+                    legacyNames.add(legacyBaseOf(reference.substring(uploadDir.length())));
+                }
+            }
+        }
+
+        long[] sorted = Arrays.copyOf(prefixes, size);
+        Arrays.sort(sorted);
+        return new Marks(sorted, legacyNames);
+    }
+
+    private void sweep(Marks marks, UploadGcReport report) throws IOException {
+        Path root = Paths.get(uploadDir);
+        long cutoff = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(graceHours);
+        Throttle throttle = new Throttle(deletesPerSecond);
+        // 해시 → file_blobs 기준으로 아직 남겨야 하는지 (원본/썸네일/manifest 가 같은 해시를 공유)
+        Map<String, Boolean> held = new HashMap<>();
+
+        List<Path> shards = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (Files.isDirectory(entry)) {
+                    if (HEX2.matcher(name).matches()) {
+                        shards.add(entry);
+                    }
+                } else {
+                    // 예전 방식으로 저장된 파일
+                    boolean orphan = !marks.legacyNames.contains(legacyBaseOf(name));
+                    visit(entry, orphan, null, false, cutoff, report, throttle, held);
+                }
+            }
+        }
+
+        // 중단된 업로드의 임시 파일
+        Path tempDir = root.resolve(TEMP_DIR);
+        if (Files.isDirectory(tempDir)) {
+            sweepDirectory(tempDir, marks, cutoff, report, throttle, held);
+        }
+
+        shards.sort(null);
+        for (Path shard : shards) {
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(shard, Files::isDirectory)) {
+                for (Path child : children) {
+                    if (HEX2.matcher(child.getFileName().toString()).matches()) {
+                        sweepDirectory(child, marks, cutoff, report, throttle, held);
+                        held.clear();
+                        pause();
+                    }
+                }
+            }
+        }
+    }
+
+    private void sweepDirectory(Path directory, Marks marks, long cutoff, UploadGcReport report,
+                                Throttle throttle, Map<String, Boolean> held) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                Matcher matcher = MEDIA_NAME.matcher(name);
+                // 형식에 맞지 않는 파일은 썸네일 생성/업로드 중 남은 임시 파일
+                boolean media = matcher.matches();
+                boolean orphan = !media || !marks.contains(prefixOf(matcher.group(1)));
+                // manifest({해시}.json) 는 원본이 아니므로 file_blobs 행을 지우지 않음
+                boolean original = CONTENT_KEY.matcher(name).matches() && !name.endsWith(MANIFEST_SUFFIX);
+                visit(file, orphan, media ? matcher.group(1) : null, original, cutoff, report, throttle, held);
+            }
+        }
+    }
+
+    // hash: 내용 주소 파일의 해시 (예전 방식/임시 파일은 null)
+    private void visit(Path file, boolean orphan, String hash, boolean original, long cutoff,
+                       UploadGcReport report, Throttle throttle, Map<String, Boolean> held) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            return;
+        }
+        report.addScanned();
+        if (!orphan) {
+            return;
+        }
+        if (attributes.lastModifiedTime().toMillis() > cutoff) {
+            report.addRecent();
+            return;
+        }
+        if (hash != null && held.computeIfAbsent(hash, h -> fileBlobMapper.countHeld(h, graceHours) > 0)) {
+            report.addHeld();
+            return;
+        }
+
+        report.addOrphan(file.toString(), attributes.size());
+        if (report.isDryRun()) {
+            return;
+        }
+
+        throttle.acquire();
+        // 검사 이후 같은 내용이 다시 업로드되었으면 (수정 시각 갱신) 남김
+        try {
+            if (Files.getLastModifiedTime(file).toMillis() > cutoff) {
+                return;
+            }
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        if (Files.deleteIfExists(file)) {
+            report.addDeleted(attributes.size());
+            if (original) {
+                fileBlobMapper.delete(file.getFileName().toString());
+            }
+        }
+    }
+
+    private void pause() {
+        if (directoryPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(directoryPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드 파일 정리 중단", e);
+        }
+    }
+
+    // {UUID}.jpg, {UUID}_160.jpg, {UUID}.json → {UUID}
+    private static String legacyBaseOf(String name) {
+        return LEGACY_DERIVATIVE.matcher(name).replaceFirst("");
+    }
+
+    // 내용 키(SHA-256 hex) 앞 16자리
+    private static long prefixOf(String contentKey) {
+        return Long.parseUnsignedLong(contentKey.substring(0, 16), 16);
+    }
+
+    private record Marks(long[] prefixes, Set<String> legacyNames) {
+        boolean contains(long prefix) {
+            return Arrays.binarySearch(prefixes, prefix) >= 0;
+        }
+    }
+
+    // 초당 삭제 수 제한
+    private static final class Throttle {
+        private final long intervalNanos;
+        private long next = System.nanoTime();
+
+        Throttle(int perSecond) {
+            this.intervalNanos = perSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / perSecond : 0;
+        }
+
+        void acquire() {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("업로드 파일 정리 중단", e);
+                }
+            }
+            next = Math.max(next, System.nanoTime()) + intervalNanos;
+        }
+    }
+}
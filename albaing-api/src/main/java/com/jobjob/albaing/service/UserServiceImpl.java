@@ -12,6 +12,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     UserMapper userMapper;
 
+    @Autowired
+    ExistenceFilterService existenceFilterService;
+
 
     @Override
     public void deleteUser(Long userId) {
@@ -34,6 +37,8 @@ public class UserServiceImpl implements UserService {
     @Override
     public void updateUser(User user) {
         userMapper.updateUser(user);
+        // 이메일/전화번호가 바뀌었을 수 있으므로 중복 확인 필터에 등록
+        existenceFilterService.addUser(user.getUserEmail(), user.getUserPhone());
     }
 
 
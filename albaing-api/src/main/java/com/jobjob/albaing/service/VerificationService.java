@@ -4,7 +4,8 @@ import com.jobjob.albaing.model.vo.VerificationRequest;
 
 public interface VerificationService {
     String randomCode();
-    void sendEmail(String email, String code);
+    // 인증 메일을 발송 대기열에 넣고 상태 조회용 메일 ID 를 반환
+    String sendEmail(String email, String code);
     void saveEmailCode(String email, String code);
     boolean verifyCodeWithVO(VerificationRequest request);
     void sendVerificationEmail();
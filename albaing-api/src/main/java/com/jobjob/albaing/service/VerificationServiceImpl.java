@@ -1,30 +1,34 @@
 package com.jobjob.albaing.service;
 
-import com.jobjob.albaing.model.vo.VerificationData;
+import com.jobjob.albaing.model.vo.MailContent;
+import com.jobjob.albaing.model.vo.MailTemplate;
 import com.jobjob.albaing.model.vo.VerificationRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class VerificationServiceImpl implements VerificationService {
 
     @Autowired
-    private JavaMailSender mailSender;
+    private MailDispatchService mailDispatchService;
+
+    @Autowired
+    private MailTemplateService mailTemplateService;
+
+    @Value("${verification.code-ttl-seconds:600}")
+    private long codeTtlSeconds;
 
     @Autowired
     @Lazy
     AuthServiceImpl authService;
 
-    private final Map<String, VerificationData> verificationStore = new ConcurrentHashMap<>();
+    @Autowired
+    private VerificationStore verificationStore;
 
     @Override
     public String randomCode() {
@@ -34,34 +38,17 @@ public class VerificationServiceImpl implements VerificationService {
     }
 
     @Override
-    public void sendEmail(String email, String code) {
+    public String sendEmail(String email, String code) {
         // 🔹 1. 이메일 중복 체크 (DB 조회)
         if (authService.isUserExist(email) || authService.isCompanyExist(email)) { // DB에 이미 존재하는 이메일인지 확인
             throw new IllegalArgumentException("이미 가입된 이메일입니다."); // 예외 발생
         }
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setTo(email);
-            helper.setSubject("[알바잉] 이메일 인증번호");
-
-            String content =
-                    "<div style='margin:20px;'>" +
-                            "<h2>알바잉 이메일 인증</h2>" +
-                            "<p>안녕하세요! 알바잉 서비스 이용을 위한 이메일 인증번호입니다.</p>" +
-                            "<div style='padding:10px; font-size:24px; font-weight:bold; background-color:#f4f4f4; border-radius:5px; display:inline-block;'>" +
-                            code +
-                            "</div>" +
-                            "<p>인증번호는 10분간 유효합니다.</p>" +
-                            "<p>감사합니다.</p>" +
-                            "</div>";
-
-            helper.setText(content, true);
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            throw new RuntimeException("VerifiCationServiceImpl : 이메일 전송 중 오류가 발생했습니다: " + e.getMessage(), e);
-        }
+
+        MailContent content = mailTemplateService.render(MailTemplate.VERIFICATION_CODE,
+                Map.of("code", code, "ttlMinutes", String.valueOf(codeTtlSeconds / 60)));
+
+        // 🔹 2. SMTP 발송은 메일 워커에서 처리 (요청 스레드는 대기열에 넣고 바로 반환)
+        return mailDispatchService.enqueue(email, content);
     }
 
     @Override
@@ -69,7 +56,7 @@ public class VerificationServiceImpl implements VerificationService {
         if (email == null || email.trim().isEmpty()) {
             throw new IllegalArgumentException("이메일은 필수 입력 사항입니다.");
         }
-        verificationStore.put(email.toLowerCase(), new VerificationData(email, code));
+        verificationStore.saveCode(email.toLowerCase(), Integer.parseInt(code));
     }
 
     @Override
@@ -78,20 +65,12 @@ public class VerificationServiceImpl implements VerificationService {
             return false;
         }
 
-        String email = request.getEmail().toLowerCase();
-        String inputCode = request.getCode();
-        VerificationData data = verificationStore.get(email);
-
-        if (data == null) {
-            return false;
-        }
-
-        if (data.isExpired()) {
-            verificationStore.remove(email);
+        try {
+            int inputCode = Integer.parseInt(request.getCode().trim());
+            return verificationStore.verifyCode(request.getEmail().toLowerCase(), inputCode);
+        } catch (NumberFormatException e) {
             return false;
         }
-
-        return inputCode.equals(data.getCode());
     }
 
     @Override
@@ -102,29 +81,13 @@ public class VerificationServiceImpl implements VerificationService {
     public void markEmailAsVerified(String email) {
         if (email == null || email.trim().isEmpty()) return;
 
-        String lowerEmail = email.toLowerCase();
-        VerificationData data = verificationStore.get(lowerEmail);
-
-        if (data == null) {
-            data = new VerificationData(lowerEmail, true);
-            verificationStore.put(lowerEmail, data);
-        } else {
-            data.setVerified(true);
-        }
+        verificationStore.markVerified(email.toLowerCase());
     }
 
     public boolean isEmailVerified(String email) {
         if (email == null) return false;
 
-        VerificationData data = verificationStore.get(email.toLowerCase());
-        if (data == null) return false;
-
-        if (data.isExpired()) {
-            verificationStore.remove(email.toLowerCase());
-            return false;
-        }
-
-        return data.isVerified();
+        return verificationStore.isVerified(email.toLowerCase());
     }
 
     public void removeEmailVerification(String email) {
@@ -0,0 +1,25 @@
+package com.jobjob.albaing.service;
+
+/**
+ * 이메일 인증 코드 저장소.
+ * verification.store.type 으로 구현을 선택합니다.
+ * - memory (기본): JVM 메모리 (단일 노드)
+ * - jdbc: MySQL 공유 테이블 (여러 노드 중 어디서 보내고 어디서 확인해도 동작)
+ *
+ * 키(email)는 호출하는 쪽에서 소문자로 정규화하여 전달합니다.
+ */
+public interface VerificationStore {
+
+    // 인증 코드 저장 (기존 코드/인증 상태는 덮어씀)
+    void saveCode(String email, int code);
+
+    // 만료되지 않은 코드와 일치하는지 확인
+    boolean verifyCode(String email, int code);
+
+    // 인증 완료 처리 (항목이 없으면 인증 완료 상태로 새로 저장)
+    void markVerified(String email);
+
+    boolean isVerified(String email);
+
+    void remove(String email);
+}
@@ -0,0 +1,65 @@
+package com.jobjob.albaing.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커.
+ * - CLOSED: 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN: openMillis 동안 호출 차단
+ * - HALF_OPEN: 차단 시간이 지나면 한 번만 시험 호출 허용, 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // 0 이면 닫힘, 아니면 차단이 끝나는 시각
+    private final AtomicLong openUntil = new AtomicLong();
+    private final AtomicLong probeStartedAt = new AtomicLong();
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    // 호출해도 되는지 (HALF_OPEN 에서는 시험 호출 하나만 true)
+    public boolean allowRequest() {
+        long until = openUntil.get();
+        if (until == 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (now < until) {
+            return false;
+        }
+        // 시험 호출이 openMillis 안에 끝나지 않으면 다음 요청에 다시 기회를 줌
+        long probe = probeStartedAt.get();
+        return (probe < until || now - probe > openMillis) && probeStartedAt.compareAndSet(probe, now);
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        openUntil.set(0);
+    }
+
+    public void recordFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold || openUntil.get() != 0) {
+            openUntil.set(System.currentTimeMillis() + openMillis);
+        }
+    }
+
+    public State getState() {
+        long until = openUntil.get();
+        if (until == 0) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() < until ? State.OPEN : State.HALF_OPEN;
+    }
+}
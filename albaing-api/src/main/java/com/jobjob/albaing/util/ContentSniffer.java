@@ -0,0 +1,79 @@
+package com.jobjob.albaing.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파일 앞부분(매직 바이트)으로 실제 형식을 판별합니다.
+ * 클라이언트가 보낸 Content-Type / 파일명은 신뢰하지 않습니다.
+ */
+public final class ContentSniffer {
+
+    // 판별에 필요한 최대 바이트 수
+    public static final int HEAD_SIZE = 12;
+
+    public enum Type {
+        JPEG("jpg", "image/jpeg"),
+        PNG("png", "image/png"),
+        GIF("gif", "image/gif"),
+        WEBP("webp", "image/webp");
+
+        private final String extension;
+        private final String mimeType;
+
+        Type(String extension, String mimeType) {
+            this.extension = extension;
+            this.mimeType = mimeType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+    }
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+
+    private ContentSniffer() {
+    }
+
+    /**
+     * @param head 파일 앞부분 (position 부터 limit 까지 읽음, position 은 바뀌지 않음)
+     * @return 판별된 형식, 알 수 없으면 null
+     */
+    public static Type detect(ByteBuffer head) {
+        byte[] b = new byte[Math.min(HEAD_SIZE, head.remaining())];
+        head.duplicate().get(b);
+
+        if (b.length >= 3 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xD8 && (b[2] & 0xFF) == 0xFF) {
+            return Type.JPEG;
+        }
+        if (startsWith(b, PNG_SIGNATURE)) {
+            return Type.PNG;
+        }
+        if (startsWith(b, "GIF87a".getBytes(StandardCharsets.US_ASCII))
+                || startsWith(b, "GIF89a".getBytes(StandardCharsets.US_ASCII))) {
+            return Type.GIF;
+        }
+        if (b.length >= 12 && startsWith(b, "RIFF".getBytes(StandardCharsets.US_ASCII))
+                && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P') {
+            return Type.WEBP;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        if (data.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
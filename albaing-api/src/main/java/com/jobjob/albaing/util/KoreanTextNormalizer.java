@@ -0,0 +1,76 @@
+package com.jobjob.albaing.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 챗봇 질문 비교용 정규화.
+ * "로그인 어떻게 해요??" / "로그인어떻게해요" / "ＬＯＧＩＮ 어떻게 해요" 처럼 표기만 다른 질문을 같은 키로 만듭니다.
+ */
+public final class KoreanTextNormalizer {
+
+    private KoreanTextNormalizer() {
+    }
+
+    /**
+     * @param foldJamo true 이면 단독 자모(ㅋㅋ, ㅎㅎ, ㅠㅠ 등 감정 표현)도 제거
+     */
+    public static String normalize(String text, boolean foldJamo) {
+        if (text == null) {
+            return "";
+        }
+        // 전각/반각, 호환 문자, 조합형 한글 통일
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder sb = new StringBuilder(normalized.length());
+        int last = -1;
+        int run = 0;
+        for (int i = 0; i < normalized.length(); ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            // 공백, 문장부호, 기호 제거
+            if (Character.isWhitespace(cp) || Character.isSpaceChar(cp) || isPunctuationOrSymbol(cp)) {
+                continue;
+            }
+            if (foldJamo && isJamo(cp)) {
+                continue;
+            }
+            // 같은 문자 3번 이상 반복은 2번으로 ("네네네네" → "네네")
+            run = cp == last ? run + 1 : 1;
+            last = cp;
+            if (run > 2) {
+                continue;
+            }
+            sb.appendCodePoint(cp);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isPunctuationOrSymbol(int cp) {
+        switch (Character.getType(cp)) {
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+            case Character.MATH_SYMBOL:
+            case Character.CURRENCY_SYMBOL:
+            case Character.MODIFIER_SYMBOL:
+            case Character.OTHER_SYMBOL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // 음절을 이루지 않은 자모 (NFKC 가 호환 자모 ㄱ-ㅎ, ㅏ-ㅣ 를 첫가끝 자모로 바꾸므로 두 범위 모두 확인)
+    private static boolean isJamo(int cp) {
+        return (cp >= 0x1100 && cp <= 0x11FF)
+                || (cp >= 0x3131 && cp <= 0x318E)
+                || (cp >= 0xA960 && cp <= 0xA97F)
+                || (cp >= 0xD7B0 && cp <= 0xD7FF);
+    }
+}
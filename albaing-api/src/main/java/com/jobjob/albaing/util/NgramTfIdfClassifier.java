@@ -0,0 +1,142 @@
+package com.jobjob.albaing.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 글자 n-gram TF-IDF 코사인 유사도 기반 인텐트 분류기.
+ * 학습 문구마다 정규화된 벡터를 만들어 두고, 질문과 가장 비슷한 문구의 인텐트를 반환합니다.
+ * 학습 후에는 읽기 전용이므로 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class NgramTfIdfClassifier {
+
+    /**
+     * @param margin 두 번째로 비슷한 (다른) 인텐트와의 유사도 차이. 작으면 "어떻게 해요" 처럼 여러 인텐트에 걸친 모호한 질문
+     */
+    public record Match(String intent, double score, double margin) {
+    }
+
+    private record Example(String intent, Map<String, Double> vector) {
+    }
+
+    private final int minN;
+    private final int maxN;
+    private final boolean foldJamo;
+    private final Map<String, Double> idf = new HashMap<>();
+    private final List<Example> examples = new ArrayList<>();
+
+    /**
+     * @param phrasesByIntent 인텐트 이름 → 학습 문구
+     */
+    public NgramTfIdfClassifier(Map<String, List<String>> phrasesByIntent, int minN, int maxN, boolean foldJamo) {
+        this.minN = minN;
+        this.maxN = maxN;
+        this.foldJamo = foldJamo;
+
+        List<String> intents = new ArrayList<>();
+        List<Map<String, Integer>> counts = new ArrayList<>();
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        phrasesByIntent.forEach((intent, phrases) -> {
+            for (String phrase : phrases) {
+                Map<String, Integer> grams = grams(phrase);
+                if (grams.isEmpty()) {
+                    continue;
+                }
+                intents.add(intent);
+                counts.add(grams);
+                grams.keySet().forEach(gram -> documentFrequency.merge(gram, 1, Integer::sum));
+            }
+        });
+
+        // 부드러운 IDF: ln((N + 1) / (df + 1)) + 1
+        int documents = counts.size();
+        documentFrequency.forEach((gram, df) -> idf.put(gram, Math.log((documents + 1.0) / (df + 1.0)) + 1.0));
+
+        for (int i = 0; i < documents; i++) {
+            examples.add(new Example(intents.get(i), vector(counts.get(i))));
+        }
+    }
+
+    /**
+     * @return 가장 비슷한 학습 문구의 인텐트와 유사도(0~1), 학습된 n-gram 이 하나도 없으면 null
+     */
+    public Match classify(String text) {
+        Map<String, Double> query = vector(grams(text));
+        if (query.isEmpty()) {
+            return null;
+        }
+
+        // 인텐트별 최고 유사도
+        Map<String, Double> scores = new HashMap<>();
+        for (Example example : examples) {
+            double score = dot(query, example.vector());
+            if (score > 0) {
+                scores.merge(example.intent(), score, Math::max);
+            }
+        }
+
+        String bestIntent = null;
+        double bestScore = 0;
+        double secondScore = 0;
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            if (entry.getValue() > bestScore) {
+                secondScore = bestScore;
+                bestScore = entry.getValue();
+                bestIntent = entry.getKey();
+            } else if (entry.getValue() > secondScore) {
+                secondScore = entry.getValue();
+            }
+        }
+        return bestIntent != null ? new Match(bestIntent, bestScore, bestScore - secondScore) : null;
+    }
+
+    private Map<String, Integer> grams(String text) {
+        String normalized = KoreanTextNormalizer.normalize(text, foldJamo);
+        Map<String, Integer> grams = new HashMap<>();
+        int length = normalized.length();
+        if (length > 0 && length < minN) {
+            grams.put(normalized, 1);
+        }
+        for (int n = minN; n <= maxN; n++) {
+            for (int i = 0; i + n <= length; i++) {
+                grams.merge(normalized.substring(i, i + n), 1, Integer::sum);
+            }
+        }
+        return grams;
+    }
+
+    // TF-IDF 벡터 (L2 정규화, 학습에 없던 n-gram 은 무시)
+    private Map<String, Double> vector(Map<String, Integer> grams) {
+        Map<String, Double> vector = new HashMap<>();
+        double norm = 0;
+        for (Map.Entry<String, Integer> entry : grams.entrySet()) {
+            Double weight = idf.get(entry.getKey());
+            if (weight == null) {
+                continue;
+            }
+            double value = (1 + Math.log(entry.getValue())) * weight;
+            vector.put(entry.getKey(), value);
+            norm += value * value;
+        }
+        if (norm > 0) {
+            double length = Math.sqrt(norm);
+            vector.replaceAll((gram, value) -> value / length);
+        }
+        return vector;
+    }
+
+    private static double dot(Map<String, Double> a, Map<String, Double> b) {
+        Map<String, Double> small = a.size() <= b.size() ? a : b;
+        Map<String, Double> large = small == a ? b : a;
+        double sum = 0;
+        for (Map.Entry<String, Double> entry : small.entrySet()) {
+            Double other = large.get(entry.getKey());
+            if (other != null) {
+                sum += entry.getValue() * other;
+            }
+        }
+        return sum;
+    }
+}
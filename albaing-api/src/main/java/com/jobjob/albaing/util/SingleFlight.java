@@ -0,0 +1,108 @@
+package com.jobjob.albaing.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나로 합칩니다.
+ * 먼저 온 요청(leader)만 실제로 계산하고, 계산 중에 들어온 요청(follower)은 그 결과를 기다려 함께 사용합니다.
+ * 키 테이블은 여러 stripe 로 나눠 잠금 경합을 줄이고, 진행 중인 키 수가 maxInFlight 를 넘으면 합치지 않고 바로 계산합니다.
+ */
+public final class SingleFlight<K, V> {
+
+    public enum Role {
+        LEADER, FOLLOWER, BYPASS
+    }
+
+    private final Map<K, CompletableFuture<V>>[] stripes;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    public SingleFlight(int stripeCount, int maxInFlight) {
+        this.stripes = new Map[Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new HashMap<>();
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @param roleListener 이 호출의 역할 (통계용)
+     * @throws TimeoutException follower 가 timeoutMillis 안에 결과를 받지 못한 경우
+     */
+    public V execute(K key, Supplier<V> supplier, long timeoutMillis,
+                     Consumer<Role> roleListener) throws TimeoutException {
+        Map<K, CompletableFuture<V>> stripe = stripeOf(key);
+        CompletableFuture<V> existing;
+        CompletableFuture<V> created = null;
+
+        synchronized (stripe) {
+            existing = stripe.get(key);
+            if (existing == null && inFlight.get() < maxInFlight) {
+                created = new CompletableFuture<>();
+                stripe.put(key, created);
+                inFlight.incrementAndGet();
+            }
+        }
+
+        if (existing != null) {
+            roleListener.accept(Role.FOLLOWER);
+            return await(existing, timeoutMillis);
+        }
+        if (created == null) {
+            roleListener.accept(Role.BYPASS);
+            return supplier.get();
+        }
+
+        roleListener.accept(Role.LEADER);
+        try {
+            V value = supplier.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (stripe) {
+                stripe.remove(key, created);
+            }
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private V await(CompletableFuture<V> future, long timeoutMillis) throws TimeoutException {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private Map<K, CompletableFuture<V>> stripeOf(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+}
@@ -0,0 +1,126 @@
+package com.jobjob.albaing.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 (lock-free).
+ *
+ * 버킷 상태(마지막 갱신 시각 + 남은 토큰)를 long 하나에 담아 CAS 로 갱신합니다.
+ * - 상위 44bit: 생성 시점 기준 경과 ms, 하위 20bit: 남은 토큰 (1/1000 단위)
+ * 키 테이블은 여러 stripe 로 나누고 stripe 당 최대 키 수를 제한합니다.
+ * 가득 차면 새 키는 버킷을 만들지 않고 OVERFLOW 를 반환하며, 어떻게 처리할지는 호출하는 쪽이 정합니다
+ * (여러 키가 버킷 하나를 나눠 쓰면 키를 마구 만들어 내는 쪽이 다른 사용자까지 막을 수 있음).
+ * 오래 쓰지 않은 버킷 정리(evictIdle)는 요청 스레드가 아닌 주기 작업에서 호출합니다.
+ */
+public class TokenBucketLimiter {
+
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long ONE_TOKEN = 1000;
+
+    // 키 테이블이 가득 차 버킷을 만들 수 없음
+    public static final long OVERFLOW = -1;
+
+    private final long capacity;            // 1/1000 토큰 단위
+    private final double refillPerMs;       // ms 당 충전량 (1/1000 토큰 단위)
+    private final long idleMillis;          // 이 시간 이상 쓰지 않은 버킷은 가득 찬 상태와 같으므로 제거 가능
+    private final int maxKeysPerStripe;
+    private final long origin = System.currentTimeMillis();
+
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final int stripeMask;
+
+    /**
+     * @param capacity        최대 토큰 수 (버스트 허용량, 최대 1000)
+     * @param refillPerMinute 분당 충전 토큰 수
+     * @param maxKeys         전체 최대 키 수
+     */
+    @SuppressWarnings("unchecked")
+    public TokenBucketLimiter(int capacity, double refillPerMinute, int maxKeys) {
+        if (capacity <= 0 || capacity * ONE_TOKEN > TOKEN_MASK) {
+            throw new IllegalArgumentException("capacity 는 1 이상 1000 이하여야 합니다: " + capacity);
+        }
+        if (refillPerMinute <= 0) {
+            throw new IllegalArgumentException("refillPerMinute 는 0 보다 커야 합니다: " + refillPerMinute);
+        }
+        this.capacity = capacity * ONE_TOKEN;
+        this.refillPerMs = refillPerMinute * ONE_TOKEN / 60_000.0;
+        this.idleMillis = (long) Math.ceil(this.capacity / refillPerMs);
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4);
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.stripeMask = stripeCount - 1;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     * @return 0 이면 허용, 0 보다 크면 다음 토큰까지 기다려야 하는 ms,
+     *         키 테이블이 가득 차 새 버킷을 만들 수 없으면 OVERFLOW
+     */
+    public long tryAcquire(String key) {
+        long now = System.currentTimeMillis() - origin;
+        AtomicLong bucket = bucketFor(key, now);
+        if (bucket == null) {
+            return OVERFLOW;
+        }
+
+        while (true) {
+            long state = bucket.get();
+            long available = refill(state, now);
+            if (available < ONE_TOKEN) {
+                return (long) Math.ceil((ONE_TOKEN - available) / refillPerMs);
+            }
+            if (bucket.compareAndSet(state, (now << TOKEN_BITS) | (available - ONE_TOKEN))) {
+                return 0;
+            }
+        }
+    }
+
+    // 오래 쓰지 않은 (= 이미 가득 찬) 버킷 정리 (주기 작업에서 호출)
+    public void evictIdle() {
+        long now = System.currentTimeMillis() - origin;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            evictIdle(stripe, now);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes[spread(key.hashCode()) & stripeMask];
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxKeysPerStripe) {
+            return null;
+        }
+        return stripe.computeIfAbsent(key, k -> new AtomicLong((now << TOKEN_BITS) | capacity));
+    }
+
+    private void evictIdle(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+        stripe.values().removeIf(bucket -> now - (bucket.get() >>> TOKEN_BITS) > idleMillis);
+    }
+
+    private long refill(long state, long now) {
+        long last = state >>> TOKEN_BITS;
+        long tokens = state & TOKEN_MASK;
+        long elapsed = Math.max(0, now - last);
+        return Math.min(capacity, tokens + (long) (elapsed * refillPerMs));
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,8 @@
+-- 여러 노드가 공유하는 이메일 인증 코드 저장소 (verification.store.type=jdbc)
+CREATE TABLE IF NOT EXISTS email_verifications (
+    email      VARCHAR(255) NOT NULL PRIMARY KEY,
+    code       INT          NOT NULL,
+    expires_at BIGINT       NOT NULL,   -- epoch millis
+    verified   TINYINT(1)   NOT NULL DEFAULT 0,
+    INDEX idx_email_verifications_expires_at (expires_at)
+);
@@ -0,0 +1,9 @@
+-- 가입 정보 블룸 필터 주기 갱신용 인덱스
+-- ExistenceFilterServiceImpl.refresh 는 마지막 반영 이후 가입(PK 범위)되었거나
+-- 수정(updated_at 범위)된 행만 읽으므로 updated_at 범위 조회가 전체 스캔이 되지 않도록 합니다.
+
+ALTER TABLE users
+    ADD INDEX idx_users_updated_at (user_updated_at);
+
+ALTER TABLE companies
+    ADD INDEX idx_companies_updated_at (company_updated_at);
@@ -0,0 +1,12 @@
+-- 업로드 파일 본문 (SHA-256 내용 주소 → 참조 수)
+-- 같은 내용은 디스크에 한 번만 저장하고, 참조하는 행(프로필 이미지, 로고 등) 수만 셉니다.
+-- ref_count 가 0 이 된 파일은 released_at 이후 유예 기간이 지나면 정리 대상입니다.
+CREATE TABLE IF NOT EXISTS file_blobs (
+    content_key  VARCHAR(80)  NOT NULL,   -- {sha256 hex}.{확장자}
+    size_bytes   BIGINT       NOT NULL,
+    ref_count    INT          NOT NULL DEFAULT 1,
+    created_at   DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    released_at  DATETIME     NULL,
+    PRIMARY KEY (content_key),
+    INDEX idx_file_blobs_released (ref_count, released_at)
+);
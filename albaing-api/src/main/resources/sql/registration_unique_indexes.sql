@@ -0,0 +1,12 @@
+-- 회원가입 중복 방지용 유니크 인덱스
+-- AuthServiceImpl.registerUser / registerCompany 는 사전 COUNT 조회 없이 INSERT 하고,
+-- 인덱스 위반(DuplicateKeyException)을 "이미 가입한 이메일/전화번호" 응답으로 변환합니다.
+-- 인덱스 이름에 _email / _phone 이 포함되어야 어떤 항목이 중복인지 구분할 수 있습니다.
+
+ALTER TABLE users
+    ADD UNIQUE INDEX uk_users_email (user_email),
+    ADD UNIQUE INDEX uk_users_phone (user_phone);
+
+ALTER TABLE companies
+    ADD UNIQUE INDEX uk_companies_email (company_email),
+    ADD UNIQUE INDEX uk_companies_phone (company_phone);
@@ -0,0 +1,9 @@
+-- 로그아웃 등으로 폐기한 액세스 토큰 (auth.token.revocation-store=jdbc)
+-- 여러 노드가 공유하며, 각 노드는 revoked_at 기준으로 새 항목만 주기적으로 읽어 메모리에 보관합니다.
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti        VARCHAR(36)  NOT NULL PRIMARY KEY,
+    expires_at BIGINT       NOT NULL,   -- 토큰 만료 시각 (epoch seconds)
+    revoked_at DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    INDEX idx_revoked_tokens_revoked_at (revoked_at),
+    INDEX idx_revoked_tokens_expires_at (expires_at)
+);
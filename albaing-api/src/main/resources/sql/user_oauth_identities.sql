@@ -0,0 +1,12 @@
+-- 소셜 로그인 계정 연결 (제공자 + 제공자 회원번호 → users.user_id)
+-- 재방문 소셜 로그인은 PK 조회 + users 조인 한 번으로 사용자를 찾습니다.
+CREATE TABLE IF NOT EXISTS user_oauth_identities (
+    provider         VARCHAR(20)  NOT NULL,   -- kakao | naver
+    provider_user_id VARCHAR(64)  NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    created_at       DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (provider, provider_user_id),
+    INDEX idx_user_oauth_identities_user_id (user_id),
+    CONSTRAINT fk_user_oauth_identities_user FOREIGN KEY (user_id)
+        REFERENCES users (user_id) ON DELETE CASCADE
+);
@@ -0,0 +1,220 @@
+package com.jobjob.albaing.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 SMTP 스텁 서버로 연결 풀 동작(재사용, 유휴 연결 검사/교체, 종료)을 확인합니다.
+ */
+class PooledJavaMailSenderTest {
+
+    private StubSmtpServer server;
+    private PooledJavaMailSender mailSender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubSmtpServer();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (mailSender != null) {
+            mailSender.destroy();
+        }
+        server.close();
+    }
+
+    @Test
+    void reusesOneConnectionAcrossSends() {
+        mailSender = sender(60_000, 60_000);
+
+        for (int i = 0; i < 3; i++) {
+            mailSender.send(message("user" + i + "@example.com"));
+        }
+
+        assertEquals(3, server.messages.get());
+        assertEquals(1, server.connections.get());
+        assertEquals(1, mailSender.getIdleConnections());
+    }
+
+    @Test
+    void sendsBatchOverOneConnection() {
+        mailSender = sender(60_000, 60_000);
+
+        mailSender.send(message("a@example.com"), message("b@example.com"), message("c@example.com"));
+
+        assertEquals(3, server.messages.get());
+        assertEquals(1, server.connections.get());
+    }
+
+    @Test
+    void replacesConnectionClosedByServerWhileIdle() throws InterruptedException {
+        mailSender = sender(0, 60_000);
+        server.dropAfterMessage = true;
+
+        mailSender.send(message("a@example.com"));
+        Thread.sleep(20);
+        // 재사용 전 NOOP 검사에서 끊긴 연결을 발견하고 새로 연결
+        mailSender.send(message("b@example.com"));
+
+        assertEquals(2, server.messages.get());
+        assertEquals(2, server.connections.get());
+    }
+
+    @Test
+    void closesConnectionsIdleLongerThanMaxIdle() throws InterruptedException {
+        mailSender = sender(60_000, 10);
+
+        mailSender.send(message("a@example.com"));
+        Thread.sleep(30);
+        mailSender.send(message("b@example.com"));
+
+        assertEquals(2, server.connections.get());
+        assertEquals(1, server.quits.get());
+    }
+
+    @Test
+    void unreachableServerFailsWithMailSendException() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+        mailSender = sender(60_000, 60_000);
+        mailSender.setPort(port);
+
+        assertThrows(MailSendException.class, () -> mailSender.send(message("a@example.com")));
+        // 연결 실패 후에도 허용 수가 반환되어 다음 요청이 대기하지 않음
+        assertThrows(MailSendException.class, () -> mailSender.send(message("b@example.com")));
+    }
+
+    @Test
+    void destroyClosesIdleConnectionsAndRejectsSends() {
+        mailSender = sender(60_000, 60_000);
+        mailSender.send(message("a@example.com"));
+
+        mailSender.destroy();
+
+        assertEquals(0, mailSender.getIdleConnections());
+        assertEquals(1, server.quits.get());
+        assertThrows(MailSendException.class, () -> mailSender.send(message("b@example.com")));
+    }
+
+    private PooledJavaMailSender sender(long validateAfterIdleMs, long maxIdleMs) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(2, validateAfterIdleMs, maxIdleMs, 1000);
+        sender.setHost("127.0.0.1");
+        sender.setPort(server.port());
+        sender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        sender.getJavaMailProperties().put("mail.smtp.timeout", "2000");
+        return sender;
+    }
+
+    private static SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@albaing.com");
+        message.setTo(to);
+        message.setSubject("인증 코드");
+        message.setText("123456");
+        return message;
+    }
+
+    /**
+     * 인증/TLS 없이 EHLO, MAIL, RCPT, DATA, NOOP, RSET, QUIT 만 처리하는 SMTP 스텁.
+     */
+    private static final class StubSmtpServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger messages = new AtomicInteger();
+        private final AtomicInteger quits = new AtomicInteger();
+        // 메시지를 받은 직후 서버 쪽에서 연결을 끊음 (유휴 타임아웃 흉내)
+        private volatile boolean dropAfterMessage;
+
+        StubSmtpServer() throws IOException {
+            executor.execute(() -> {
+                while (!serverSocket.isClosed()) {
+                    try {
+                        Socket socket = serverSocket.accept();
+                        connections.incrementAndGet();
+                        executor.execute(() -> handle(socket));
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void handle(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+                reply(out, "220 stub ESMTP");
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase(Locale.ROOT) : line;
+                    switch (command) {
+                        case "EHLO" -> reply(out, "250-stub\r\n250 8BITMIME");
+                        case "HELO", "MAIL", "RCPT", "RSET", "NOOP" -> reply(out, "250 OK");
+                        case "DATA" -> {
+                            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                            while ((line = in.readLine()) != null && !line.equals(".")) {
+                                // 본문은 버림
+                            }
+                            messages.incrementAndGet();
+                            reply(out, "250 OK queued");
+                            if (dropAfterMessage) {
+                                return;
+                            }
+                        }
+                        case "QUIT" -> {
+                            quits.incrementAndGet();
+                            reply(out, "221 Bye");
+                            return;
+                        }
+                        default -> reply(out, "502 Command not implemented");
+                    }
+                }
+            } catch (SocketException e) {
+                // 클라이언트가 연결을 끊음
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static void reply(Writer out, String response) throws IOException {
+            out.write(response + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            executor.shutdownNow();
+        }
+    }
+}
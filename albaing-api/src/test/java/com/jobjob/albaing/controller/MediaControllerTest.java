@@ -0,0 +1,69 @@
+package com.jobjob.albaing.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MediaControllerTest {
+
+    private static final long LENGTH = 1000;
+
+    @Test
+    void parsesClosedRange() {
+        assertArrayEquals(new long[]{0, 499}, MediaController.parseRange("bytes=0-499", LENGTH));
+        assertArrayEquals(new long[]{999, 999}, MediaController.parseRange("bytes=999-999", LENGTH));
+    }
+
+    @Test
+    void parsesOpenEndedRange() {
+        assertArrayEquals(new long[]{500, 999}, MediaController.parseRange("bytes=500-", LENGTH));
+    }
+
+    @Test
+    void parsesSuffixRange() {
+        assertArrayEquals(new long[]{800, 999}, MediaController.parseRange("bytes=-200", LENGTH));
+        // 파일보다 긴 suffix 는 전체
+        assertArrayEquals(new long[]{0, 999}, MediaController.parseRange("bytes=-2000", LENGTH));
+    }
+
+    @Test
+    void clampsEndToLength() {
+        assertArrayEquals(new long[]{900, 999}, MediaController.parseRange("bytes=900-5000", LENGTH));
+    }
+
+    @Test
+    void unsatisfiableRangeReturnsEmpty() {
+        assertEquals(0, MediaController.parseRange("bytes=1000-", LENGTH).length);
+        assertEquals(0, MediaController.parseRange("bytes=-0", LENGTH).length);
+        assertEquals(0, MediaController.parseRange("bytes=-10", 0).length);
+    }
+
+    @Test
+    void unsupportedOrInvalidRangeReturnsNull() {
+        // 여러 범위, 다른 단위, 잘못된 형식은 전체 응답
+        assertNull(MediaController.parseRange("bytes=0-1,5-6", LENGTH));
+        assertNull(MediaController.parseRange("items=0-1", LENGTH));
+        assertNull(MediaController.parseRange("bytes=abc", LENGTH));
+        assertNull(MediaController.parseRange("bytes=x-1", LENGTH));
+        assertNull(MediaController.parseRange("bytes=5-1", LENGTH));
+    }
+
+    @Test
+    void matchesEtag() {
+        String etag = "\"abc\"";
+        assertTrue(MediaController.matches("\"abc\"", etag));
+        assertTrue(MediaController.matches("W/\"abc\"", etag));
+        assertTrue(MediaController.matches("\"x\", \"abc\"", etag));
+        assertTrue(MediaController.matches("*", etag));
+        assertFalse(MediaController.matches("\"abd\"", etag));
+        assertFalse(MediaController.matches(null, etag));
+    }
+
+    @Test
+    void matchesWeakEtagWithWeakComparison() {
+        String etag = "W/\"18f-3e8\"";
+        assertTrue(MediaController.matches("W/\"18f-3e8\"", etag));
+        assertTrue(MediaController.matches("\"18f-3e8\"", etag));
+        assertFalse(MediaController.matches("W/\"18f-3e9\"", etag));
+    }
+}
@@ -0,0 +1,286 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.exception.UploadRejectedException;
+import com.jobjob.albaing.util.ContentSniffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChunkedUploadServiceImplTest {
+
+    private static final int CHUNK_SIZE = 16;
+    private static final String URL = "/media/0123abcd.png";
+    private static final String CLIENT = "127.0.0.1";
+
+    @TempDir
+    Path uploadDir;
+
+    private final FileService fileService = mock(FileService.class);
+    private final ChunkedUploadServiceImpl service = new ChunkedUploadServiceImpl();
+    private byte[] uploaded;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ReflectionTestUtils.setField(service, "fileService", fileService);
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(service, "maxBytes", 1024L);
+        ReflectionTestUtils.setField(service, "allowedTypes", EnumSet.allOf(ContentSniffer.Type.class));
+        ReflectionTestUtils.setField(service, "chunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(service, "sessionTtlMinutes", 60L);
+        ReflectionTestUtils.setField(service, "maxSessions", 10);
+        ReflectionTestUtils.setField(service, "maxSessionsPerClient", 3);
+        ReflectionTestUtils.setField(service, "sweepIntervalSeconds", 60L);
+        service.init();
+
+        when(fileService.uploadStream(any())).thenAnswer(invocation -> {
+            try (InputStream in = invocation.getArgument(0)) {
+                uploaded = in.readAllBytes();
+            }
+            return URL;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void createRejectsEmptyOrOversizedFile() {
+        assertThrows(UploadRejectedException.class, () -> service.create(0, CLIENT));
+        assertThrows(UploadRejectedException.class, () -> service.create(1025, CLIENT));
+    }
+
+    @Test
+    void createReportsChunkLayout() {
+        Map<String, Object> session = service.create(40, CLIENT);
+
+        assertEquals(40L, session.get("size"));
+        assertEquals(CHUNK_SIZE, session.get("chunkSize"));
+        assertEquals(3, session.get("chunkCount"));
+        assertArrayEquals(new int[0], (int[]) session.get("received"));
+    }
+
+    @Test
+    void limitsConcurrentSessionsPerClient() {
+        for (int i = 0; i < 3; i++) {
+            create(40);
+        }
+        assertThrows(UploadRejectedException.class, () -> service.create(40, CLIENT));
+        // 다른 클라이언트는 영향 없음
+        assertNotNull(service.create(40, "10.0.0.2").get("uploadId"));
+    }
+
+    @Test
+    void limitsTotalSessions() {
+        ReflectionTestUtils.setField(service, "maxSessions", 2);
+        service.create(40, "10.0.0.1");
+        service.create(40, "10.0.0.2");
+
+        assertThrows(UploadRejectedException.class, () -> service.create(40, "10.0.0.3"));
+    }
+
+    @Test
+    void rejectsInvalidOffsets() {
+        String uploadId = create(40);
+        byte[] chunk = new byte[CHUNK_SIZE];
+
+        assertThrows(UploadRejectedException.class, () -> write(uploadId, -16, chunk));
+        assertThrows(UploadRejectedException.class, () -> write(uploadId, 5, chunk));
+        assertThrows(UploadRejectedException.class, () -> write(uploadId, 48, chunk));
+    }
+
+    @Test
+    void rejectsMissingOrMalformedChecksum() {
+        String uploadId = create(40);
+        byte[] chunk = Arrays.copyOfRange(png(40), 0, CHUNK_SIZE);
+
+        assertThrows(UploadRejectedException.class,
+                () -> service.writeChunk(uploadId, 0, null, new ByteArrayInputStream(chunk)));
+        assertThrows(UploadRejectedException.class,
+                () -> service.writeChunk(uploadId, 0, "zz".repeat(32), new ByteArrayInputStream(chunk)));
+    }
+
+    @Test
+    void rejectsChunkWithWrongLength() {
+        String uploadId = create(40);
+        byte[] image = png(40);
+
+        // 마지막 조각은 8 bytes 여야 함
+        assertThrows(UploadRejectedException.class, () -> write(uploadId, 32, Arrays.copyOfRange(image, 24, 40)));
+        assertThrows(UploadRejectedException.class, () -> write(uploadId, 16, Arrays.copyOfRange(image, 16, 20)));
+        assertArrayEquals(new int[0], received(uploadId));
+    }
+
+    @Test
+    void checksumMismatchIsNotMarkedReceivedAndCanBeResent() {
+        String uploadId = create(40);
+        byte[] chunk = Arrays.copyOfRange(png(40), 16, 32);
+
+        assertThrows(UploadRejectedException.class, () -> service.writeChunk(uploadId, 16,
+                sha256Hex(new byte[CHUNK_SIZE]), new ByteArrayInputStream(chunk)));
+        assertArrayEquals(new int[0], received(uploadId));
+
+        write(uploadId, 16, chunk);
+        assertArrayEquals(new int[]{1}, received(uploadId));
+    }
+
+    @Test
+    void failedResendClearsReceivedChunk() {
+        String uploadId = create(40);
+        byte[] image = png(40);
+        write(uploadId, 0, Arrays.copyOfRange(image, 0, 16));
+        write(uploadId, 16, Arrays.copyOfRange(image, 16, 32));
+        write(uploadId, 32, Arrays.copyOfRange(image, 32, 40));
+
+        // 같은 조각을 다시 보내다 체크섬이 틀리면 파일 내용이 바뀌었을 수 있으므로 받지 않은 상태로 돌아감
+        byte[] corrupt = new byte[CHUNK_SIZE];
+        assertThrows(UploadRejectedException.class, () -> service.writeChunk(uploadId, 16,
+                sha256Hex(Arrays.copyOfRange(image, 16, 32)), new ByteArrayInputStream(corrupt)));
+        assertArrayEquals(new int[]{0, 2}, received(uploadId));
+        assertThrows(UploadRejectedException.class, () -> service.complete(uploadId));
+        verify(fileService, never()).uploadStream(any());
+    }
+
+    @Test
+    void completesOutOfOrderChunks() {
+        String uploadId = create(40);
+        byte[] image = png(40);
+
+        write(uploadId, 32, Arrays.copyOfRange(image, 32, 40));
+        write(uploadId, 0, Arrays.copyOfRange(image, 0, 16));
+        assertThrows(UploadRejectedException.class, () -> service.complete(uploadId));
+
+        write(uploadId, 16, Arrays.copyOfRange(image, 16, 32));
+        assertEquals(URL, service.complete(uploadId));
+        assertArrayEquals(image, uploaded);
+
+        // 재시도는 같은 URL, 완료 후 들어온 조각은 거부
+        assertEquals(URL, service.complete(uploadId));
+        verify(fileService, times(1)).uploadStream(any());
+        assertThrows(UploadRejectedException.class, () -> write(uploadId, 0, Arrays.copyOfRange(image, 0, 16)));
+        assertEquals(true, service.status(uploadId).get("completed"));
+    }
+
+    @Test
+    void consumeBindsUploadToFirstCaller() {
+        String uploadId = create(40);
+        writeAll(uploadId, png(40));
+        assertEquals(URL, service.complete(uploadId));
+
+        // 완료 후 처음 사용한 요청만 URL(과 파일 참조)을 받고, 이후에는 세션이 없음
+        assertEquals(URL, service.consume(uploadId));
+        assertThrows(NoSuchElementException.class, () -> service.consume(uploadId));
+        assertThrows(NoSuchElementException.class, () -> service.complete(uploadId));
+        verify(fileService, times(1)).uploadStream(any());
+    }
+
+    @Test
+    void consumeCompletesPendingUpload() {
+        String uploadId = create(40);
+        byte[] image = png(40);
+        writeAll(uploadId, image);
+
+        assertEquals(URL, service.consume(uploadId));
+        assertArrayEquals(image, uploaded);
+        // 세션이 닫혀 클라이언트별 한도에서도 빠짐
+        for (int i = 0; i < 3; i++) {
+            create(40);
+        }
+    }
+
+    @Test
+    void expiredCompletedSessionReleasesUnusedReference() {
+        String completed = create(40);
+        writeAll(completed, png(40));
+        service.complete(completed);
+        String pending = create(40);
+        String consumed = create(40);
+        writeAll(consumed, png(40));
+        service.consume(consumed);
+
+        ReflectionTestUtils.setField(service, "sessionTtlMinutes", -1L);
+        ReflectionTestUtils.invokeMethod(service, "sweepExpired");
+
+        assertThrows(NoSuchElementException.class, () -> service.status(completed));
+        assertThrows(NoSuchElementException.class, () -> service.status(pending));
+        // 완료했지만 사용되지 않은 세션의 참조만 해제
+        verify(fileService, times(1)).release(URL);
+    }
+
+    @Test
+    void rejectsNonImageOnFirstChunkAndDiscardsSession() throws IOException {
+        String uploadId = create(40);
+        byte[] html = Arrays.copyOf("<html><script>alert(1)".getBytes(), CHUNK_SIZE);
+
+        assertThrows(UploadRejectedException.class, () -> write(uploadId, 0, html));
+        assertThrows(NoSuchElementException.class, () -> service.status(uploadId));
+        try (var files = Files.list(uploadDir.resolve(".tmp").resolve("chunked"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void unknownSessionIsNotFound() {
+        assertThrows(NoSuchElementException.class, () -> service.status("missing"));
+        assertThrows(NoSuchElementException.class, () -> service.complete(null));
+    }
+
+    private String create(long size) {
+        return (String) service.create(size, CLIENT).get("uploadId");
+    }
+
+    private void write(String uploadId, long offset, byte[] chunk) {
+        service.writeChunk(uploadId, offset, sha256Hex(chunk), new ByteArrayInputStream(chunk));
+    }
+
+    private void writeAll(String uploadId, byte[] image) {
+        for (int offset = 0; offset < image.length; offset += CHUNK_SIZE) {
+            write(uploadId, offset, Arrays.copyOfRange(image, offset, Math.min(offset + CHUNK_SIZE, image.length)));
+        }
+    }
+
+    private int[] received(String uploadId) {
+        return (int[]) service.status(uploadId).get("received");
+    }
+
+    // PNG 시그니처로 시작하는 임의의 내용
+    private static byte[] png(int size) {
+        byte[] data = new byte[size];
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(signature, 0, data, 0, signature.length);
+        for (int i = signature.length; i < size; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
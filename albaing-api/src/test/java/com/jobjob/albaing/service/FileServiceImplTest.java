@@ -0,0 +1,255 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.exception.UploadRejectedException;
+import com.jobjob.albaing.mapper.FileBlobMapper;
+import com.jobjob.albaing.util.ContentSniffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class FileServiceImplTest {
+
+    private static final long MAX_BYTES = 200_000;
+
+    @TempDir
+    Path uploadDir;
+
+    private final ImageDerivativeService imageDerivativeService = mock(ImageDerivativeService.class);
+    private final FileBlobMapper fileBlobMapper = mock(FileBlobMapper.class);
+    private final FileServiceImpl service = new FileServiceImpl();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ReflectionTestUtils.setField(service, "imageDerivativeService", imageDerivativeService);
+        ReflectionTestUtils.setField(service, "fileBlobMapper", fileBlobMapper);
+        ReflectionTestUtils.setField(service, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(service, "mediaBaseUrl", "/media");
+        ReflectionTestUtils.setField(service, "maxBytes", MAX_BYTES);
+        ReflectionTestUtils.setField(service, "allowedTypes", EnumSet.of(ContentSniffer.Type.PNG, ContentSniffer.Type.JPEG));
+        service.init();
+    }
+
+    @Test
+    void storesUnderShardedContentKey() throws IOException {
+        // 버퍼(64KB)보다 커서 여러 번 나누어 읽는 경우
+        byte[] image = png(150_000);
+        String hash = sha256Hex(image);
+
+        String contentKey = service.storeContent(new ByteArrayInputStream(image));
+
+        assertEquals(hash + ".png", contentKey);
+        Path stored = uploadDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(contentKey);
+        assertEquals(stored.toString(), service.pathOf(contentKey));
+        assertArrayEquals(image, Files.readAllBytes(stored));
+        verify(fileBlobMapper, times(1)).acquire(any(), anyLong());
+        assertTempDirEmpty();
+    }
+
+    @Test
+    void readsFileInputStreamThroughChannel() throws IOException {
+        byte[] image = png(100_000);
+        Path source = Files.write(uploadDir.resolve("source.bin"), image);
+
+        String contentKey;
+        try (InputStream in = new FileInputStream(source.toFile())) {
+            contentKey = service.storeContent(in);
+        }
+
+        assertEquals(sha256Hex(image) + ".png", contentKey);
+        assertArrayEquals(image, Files.readAllBytes(Path.of(service.pathOf(contentKey))));
+    }
+
+    @Test
+    void uploadStreamReturnsMediaUrlAndQueuesThumbnails() {
+        byte[] image = png(1_000);
+
+        String url = service.uploadStream(new ByteArrayInputStream(image));
+
+        String contentKey = sha256Hex(image) + ".png";
+        assertEquals("/media/" + contentKey, url);
+        assertEquals(contentKey, service.contentKeyOf(url));
+        assertEquals(contentKey, service.contentKeyOf(service.pathOf(contentKey)));
+        verify(imageDerivativeService, times(1)).enqueue(any());
+    }
+
+    @Test
+    void sameContentIsStoredOnceAndRefreshesModifiedTime() throws IOException {
+        byte[] image = png(5_000);
+        String contentKey = service.storeContent(new ByteArrayInputStream(image));
+        Path stored = Path.of(service.pathOf(contentKey));
+        FileTime old = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(3));
+        Files.setLastModifiedTime(stored, old);
+
+        assertEquals(contentKey, service.storeContent(new ByteArrayInputStream(image)));
+
+        // 정리 작업의 유예 기간이 다시 시작되도록 수정 시각 갱신, 참조는 업로드마다 하나씩
+        assertTrue(Files.getLastModifiedTime(stored).compareTo(old) > 0);
+        assertArrayEquals(image, Files.readAllBytes(stored));
+        verify(fileBlobMapper, times(2)).acquire(any(), anyLong());
+        try (var files = Files.list(stored.getParent())) {
+            assertEquals(1, files.count());
+        }
+        assertTempDirEmpty();
+    }
+
+    @Test
+    void oversizedStreamIsAbortedWithoutReadingToTheEnd() throws IOException {
+        CountingStream in = new CountingStream(png(64), 50L * 1024 * 1024);
+
+        assertThrows(UploadRejectedException.class, () -> service.storeContent(in));
+
+        // 제한을 넘은 직후 중단 (버퍼 하나 이상 더 읽지 않음)
+        assertTrue(in.read < MAX_BYTES + 2 * 64 * 1024, "read " + in.read);
+        verify(fileBlobMapper, never()).acquire(any(), anyLong());
+        assertTempDirEmpty();
+        assertNoShardDirectories();
+    }
+
+    @Test
+    void streamExactlyAtLimitIsStoredAndOneByteMoreIsRejected() throws IOException {
+        byte[] atLimit = png((int) MAX_BYTES);
+        String contentKey = service.storeContent(new ByteArrayInputStream(atLimit));
+        assertEquals(MAX_BYTES, Files.size(Path.of(service.pathOf(contentKey))));
+
+        byte[] overLimit = png((int) MAX_BYTES + 1);
+        assertThrows(UploadRejectedException.class, () -> service.storeContent(new ByteArrayInputStream(overLimit)));
+
+        verify(fileBlobMapper, times(1)).acquire(any(), anyLong());
+        assertTempDirEmpty();
+    }
+
+    @Test
+    void emptyInputIsRejectedAsUpload() throws IOException {
+        // 컨트롤러가 UploadRejectedException 만 400 으로 처리하므로 IllegalArgumentException 이 아니어야 함
+        assertThrows(UploadRejectedException.class, () -> service.storeContent(new ByteArrayInputStream(new byte[0])));
+
+        MultipartFile empty = mock(MultipartFile.class);
+        when(empty.isEmpty()).thenAnswer(invocation -> true);
+        assertThrows(UploadRejectedException.class, () -> service.uploadFile(empty));
+
+        verify(fileBlobMapper, never()).acquire(any(), anyLong());
+        assertTempDirEmpty();
+        assertNoShardDirectories();
+    }
+
+    @Test
+    void uploadFileRejectsDeclaredOversizeWithoutReading() throws IOException {
+        MultipartFile large = mock(MultipartFile.class);
+        when(large.getSize()).thenAnswer(invocation -> MAX_BYTES + 1);
+
+        assertThrows(UploadRejectedException.class, () -> service.uploadFile(large));
+
+        verify(large, never()).getInputStream();
+        assertTempDirEmpty();
+    }
+
+    @Test
+    void rejectsDisallowedTypeBeforeStoring() throws IOException {
+        byte[] gif = "GIF89a-not-allowed-here".getBytes();
+
+        assertThrows(UploadRejectedException.class, () -> service.storeContent(new ByteArrayInputStream(gif)));
+        assertThrows(UploadRejectedException.class,
+                () -> service.storeContent(new ByteArrayInputStream("<html><script>".getBytes())));
+
+        verify(fileBlobMapper, never()).acquire(any(), anyLong());
+        assertTempDirEmpty();
+        assertNoShardDirectories();
+    }
+
+    @Test
+    void retainAndReleaseOnlyTouchContentAddressedUrls() {
+        String contentKey = sha256Hex(new byte[]{1}) + ".png";
+
+        service.retain("/media/" + contentKey);
+        service.release("/media/" + contentKey);
+        // 외부 URL, 예전 방식 경로, 빈 값은 무시
+        service.retain("https://k.kakaocdn.net/profile.jpg");
+        service.release(uploadDir + "/0b8f0c3e-legacy.png");
+        service.release(null);
+
+        verify(fileBlobMapper, times(1)).retain(any());
+        verify(fileBlobMapper, times(1)).release(any());
+    }
+
+    private void assertTempDirEmpty() throws IOException {
+        try (var files = Files.list(uploadDir.resolve(".tmp"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private void assertNoShardDirectories() throws IOException {
+        try (var entries = Files.list(uploadDir)) {
+            assertEquals(0, entries.filter(path -> !path.getFileName().toString().equals(".tmp")).count());
+        }
+    }
+
+    // PNG 시그니처로 시작하는 임의의 내용
+    private static byte[] png(int size) {
+        byte[] data = new byte[size];
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(signature, 0, data, 0, signature.length);
+        for (int i = signature.length; i < size; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        return data;
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 앞부분 뒤로 0 을 length 까지 만들어 내는 스트림 (읽은 양 기록)
+    private static final class CountingStream extends InputStream {
+        private final byte[] head;
+        private final long length;
+        private long read;
+
+        CountingStream(byte[] head, long length) {
+            this.head = head;
+            this.length = length;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int count) {
+            if (read >= length) {
+                return -1;
+            }
+            int n = (int) Math.min(count, length - read);
+            for (int i = 0; i < n; i++) {
+                buffer[offset + i] = read + i < head.length ? head[(int) (read + i)] : 0;
+            }
+            read += n;
+            return n;
+        }
+    }
+}
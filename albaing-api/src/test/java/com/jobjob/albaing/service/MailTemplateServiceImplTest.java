@@ -0,0 +1,164 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.model.vo.MailContent;
+import com.jobjob.albaing.model.vo.MailTemplate;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeUtility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 메일 템플릿(resources/templates/mail)을 Thymeleaf 로 컴파일해 렌더링 결과를 확인합니다.
+ */
+class MailTemplateServiceImplTest {
+
+    private final TemplateEngine templateEngine = new TemplateEngine();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MailTemplateServiceImpl service = new MailTemplateServiceImpl();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // spring.thymeleaf 기본 설정과 같은 위치/형식
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine.setTemplateResolver(resolver);
+
+        ReflectionTestUtils.setField(service, "templateEngine", templateEngine);
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        service.init();
+    }
+
+    @Test
+    void fillsEverySlotWithItsValue() {
+        MailContent content = service.render(MailTemplate.VERIFICATION_CODE, Map.of("code", "123456", "ttlMinutes", "10"));
+
+        String html = content.getHtmlBody();
+        assertTrue(html.contains(">123456</div>"), html);
+        assertTrue(html.contains("인증번호는 <span>10</span>분간 유효합니다."), html);
+        // 표식이나 템플릿 기본 문구가 남지 않음
+        assertFalse(html.contains("@@"), html);
+        assertFalse(html.contains("000000"), html);
+    }
+
+    @Test
+    void rendersSameHtmlAsThymeleaf() {
+        for (MailTemplate template : MailTemplate.values()) {
+            Map<String, String> variables = new HashMap<>();
+            Context context = new Context(Locale.KOREAN);
+            for (String variable : template.getVariables()) {
+                // 작은따옴표는 Thymeleaf(th:text)가 이스케이프하지 않으므로 제외
+                String value = variable + " 값 <b>\"1\" & 2</b>";
+                variables.put(variable, value);
+                context.setVariable(variable, value);
+            }
+
+            // 미리 나눈 조각을 이어 붙인 결과가 매번 Thymeleaf 로 렌더링한 결과와 같음
+            assertEquals(templateEngine.process(template.getPath(), context),
+                    service.render(template, variables).getHtmlBody(), template.name());
+        }
+    }
+
+    @Test
+    void escapesInjectedValues() {
+        MailContent content = service.render(MailTemplate.PASSWORD_CHANGED,
+                Map.of("name", "<script>alert(1)</script>", "email", "a&b\"@example.com"));
+
+        String html = content.getHtmlBody();
+        assertFalse(html.contains("<script>"), html);
+        assertTrue(html.contains("&lt;script&gt;alert(1)&lt;/script&gt;"), html);
+        assertTrue(html.contains("a&amp;b&quot;@example.com"), html);
+    }
+
+    @Test
+    void valueLookingLikeMarkerIsNotReplacedAgain() {
+        MailContent content = service.render(MailTemplate.PASSWORD_CHANGED,
+                Map.of("name", "@@email@@", "email", "user@example.com"));
+
+        assertTrue(content.getHtmlBody().contains("<span>@@email@@</span>님"), content.getHtmlBody());
+    }
+
+    @Test
+    void missingVariableRendersEmpty() {
+        MailContent content = service.render(MailTemplate.COMPANY_APPROVAL, Map.of("companyName", "알바잉"));
+
+        String html = content.getHtmlBody();
+        assertTrue(html.contains("<span>알바잉</span> 담당자님"), html);
+        assertFalse(html.contains("@@"), html);
+        assertFalse(html.contains("null"), html);
+    }
+
+    @Test
+    void encodesSubjectAsRfc2047() throws Exception {
+        for (MailTemplate template : MailTemplate.values()) {
+            MailContent content = service.render(template, Map.of());
+
+            assertEquals(template.getSubject(), content.getSubject());
+            assertTrue(content.getEncodedSubject().startsWith("=?UTF-8?B?"), content.getEncodedSubject());
+            assertTrue(content.getEncodedSubject().chars().allMatch(c -> c >= 0x21 && c <= 0x7e || c == ' '),
+                    content.getEncodedSubject());
+            assertEquals(template.getSubject(), MimeUtility.decodeText(content.getEncodedSubject()));
+        }
+    }
+
+    @Test
+    void recordsRenderTime() {
+        service.render(MailTemplate.VERIFICATION_CODE, Map.of("code", "123456", "ttlMinutes", "10"));
+        service.render(MailTemplate.VERIFICATION_CODE, Map.of("code", "654321", "ttlMinutes", "10"));
+
+        Timer timer = meterRegistry.find("mail.template.render").tag("template", "verification_code").timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+    }
+
+    /**
+     * 간단한 시간 측정: 미리 컴파일한 조각 이어 붙이기 vs 발송마다 Thymeleaf 렌더링.
+     * 정밀한 측정은 아니므로 크게 차이 나는지만 확인하고 결과는 출력만 합니다.
+     */
+    @Test
+    void precompiledRenderIsFasterThanThymeleafProcess() {
+        Map<String, String> variables = Map.of("code", "123456", "ttlMinutes", "10");
+        Context context = new Context(Locale.KOREAN);
+        variables.forEach(context::setVariable);
+        String path = MailTemplate.VERIFICATION_CODE.getPath();
+
+        int iterations = 20_000;
+        long sink = 0;
+        // JIT 준비
+        for (int i = 0; i < iterations; i++) {
+            sink += service.render(MailTemplate.VERIFICATION_CODE, variables).getHtmlBody().length();
+            sink += templateEngine.process(path, context).length();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += service.render(MailTemplate.VERIFICATION_CODE, variables).getHtmlBody().length();
+        }
+        long precompiledNanos = (System.nanoTime() - start) / iterations;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += templateEngine.process(path, context).length();
+        }
+        long thymeleafNanos = (System.nanoTime() - start) / iterations;
+
+        System.out.printf("mail render: precompiled %d ns/op, thymeleaf %d ns/op (%d)%n",
+                precompiledNanos, thymeleafNanos, sink);
+        assertTrue(precompiledNanos < thymeleafNanos,
+                "precompiled " + precompiledNanos + " ns/op, thymeleaf " + thymeleafNanos + " ns/op");
+    }
+}
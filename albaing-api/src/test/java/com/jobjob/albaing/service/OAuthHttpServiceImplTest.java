@@ -0,0 +1,215 @@
+package com.jobjob.albaing.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer)로 카카오/네이버 API 호출 경로를 확인합니다.
+ */
+class OAuthHttpServiceImplTest {
+
+    private final MockEnvironment environment = new MockEnvironment();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OAuthHttpServiceImpl service = new OAuthHttpServiceImpl();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+
+    // 스텁이 받은 마지막 요청
+    private volatile String lastContentType;
+    private volatile String lastAuthorization;
+    private volatile String lastBody;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private final CountDownLatch slowStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSlow = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/token", exchange -> {
+            record(exchange);
+            respond(exchange, 200, "{\"access_token\":\"abc\",\"expires_in\":21599}");
+        });
+        server.createContext("/me", exchange -> {
+            record(exchange);
+            respond(exchange, 200, "{\"id\":12345,\"kakao_account\":{\"email\":\"user@example.com\"}}");
+        });
+        server.createContext("/unauthorized", exchange -> {
+            record(exchange);
+            respond(exchange, 401, "{\"msg\":\"this access token does not exist\"}");
+        });
+        server.createContext("/broken", exchange -> {
+            record(exchange);
+            respond(exchange, 200, "<html>not json</html>");
+        });
+        server.createContext("/slow", exchange -> {
+            record(exchange);
+            slowStarted.countDown();
+            try {
+                releaseSlow.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        environment.setProperty("oauth.http.slow.response-timeout-ms", "200");
+        environment.setProperty("oauth.http.single.max-connections", "1");
+
+        ReflectionTestUtils.setField(service, "environment", environment);
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "connectTimeoutMs", 300L);
+        ReflectionTestUtils.setField(service, "defaultResponseTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(service, "defaultMaxConnections", 4);
+        ReflectionTestUtils.setField(service, "keepAliveSeconds", 30);
+        ReflectionTestUtils.setField(service, "executorThreads", 2);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlow.countDown();
+        service.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void postFormSendsEncodedBodyAndParsesJson() {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("grant_type", "authorization_code");
+        form.put("redirect_uri", "http://localhost:3000/oauth/kakao?a=1&b=2");
+
+        Map<String, Object> response = service.postForm("kakao", "token", baseUrl + "/token", form);
+
+        assertNotNull(response);
+        assertEquals("abc", response.get("access_token"));
+        assertEquals(21599, response.get("expires_in"));
+        assertTrue(lastContentType.startsWith("application/x-www-form-urlencoded"));
+        assertEquals("grant_type=authorization_code&redirect_uri=http%3A%2F%2Flocalhost%3A3000%2Foauth%2Fkakao%3Fa%3D1%26b%3D2",
+                lastBody);
+        assertEquals(1, count("kakao", "token", "success"));
+    }
+
+    @Test
+    void postWithBearerSendsAuthorizationHeader() {
+        Map<String, Object> response = service.postWithBearer("kakao", "user_info", baseUrl + "/me", "token-1");
+
+        assertNotNull(response);
+        assertEquals(12345, response.get("id"));
+        assertEquals("Bearer token-1", lastAuthorization);
+    }
+
+    @Test
+    void reusesConnectionsAcrossRequests() {
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(service.postWithBearer("naver", "user_info", baseUrl + "/me", "token-" + i));
+        }
+        // keep-alive: 매번 새 연결을 맺지 않음
+        assertTrue(clientPorts.size() < 5, "client ports: " + clientPorts);
+    }
+
+    @Test
+    void nonSuccessStatusReturnsNull() {
+        assertNull(service.postWithBearer("kakao", "user_info", baseUrl + "/unauthorized", "expired"));
+        assertEquals(1, count("kakao", "user_info", "http_4xx"));
+    }
+
+    @Test
+    void invalidJsonReturnsNull() {
+        assertNull(service.postWithBearer("naver", "user_info", baseUrl + "/broken", "token"));
+        assertEquals(1, count("naver", "user_info", "io_error"));
+    }
+
+    @Test
+    void providerResponseTimeoutReturnsNull() {
+        long started = System.nanoTime();
+        assertNull(service.postWithBearer("slow", "user_info", baseUrl + "/slow", "token"));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 2000);
+        assertEquals(1, count("slow", "user_info", "timeout"));
+    }
+
+    @Test
+    void connectionLimitRejectsWhenPoolIsBusy() throws Exception {
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<Map<String, Object>> first = caller.submit(() ->
+                    service.postWithBearer("single", "user_info", baseUrl + "/slow", "token"));
+            assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+            // 한도(1)를 이미 쓰고 있으므로 연결 타임아웃만큼 기다린 뒤 포기
+            assertNull(service.postWithBearer("single", "user_info", baseUrl + "/me", "token"));
+            assertEquals(1, count("single", "user_info", "pool_exhausted"));
+
+            releaseSlow.countDown();
+            assertNotNull(first.get(5, TimeUnit.SECONDS));
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void unreachableServerReturnsNull() throws IOException {
+        int port;
+        try (var socket = new java.net.ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+        assertNull(service.postWithBearer("kakao", "user_info", "http://127.0.0.1:" + port + "/me", "token"));
+        assertEquals(1, count("kakao", "user_info", "io_error"));
+    }
+
+    private long count(String provider, String endpoint, String outcome) {
+        var timer = meterRegistry.find("oauth.http.requests")
+                .tag("provider", provider)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private void record(HttpExchange exchange) throws IOException {
+        lastContentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+        lastBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,281 @@
+package com.jobjob.albaing.service;
+
+import com.jobjob.albaing.mapper.FileBlobMapper;
+import com.jobjob.albaing.model.vo.UploadGcReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 임시 폴더에 업로드 파일 구조를 만들고, DB 참조는 Cursor 스텁으로 대신해 mark-and-sweep 결과를 확인합니다.
+ */
+class UploadGcServiceImplTest {
+
+    private static final String HASH_A = "aa01" + "0".repeat(60);
+    private static final String HASH_B = "bb02" + "1".repeat(60);
+    private static final String LEGACY_KEPT = "0b8f0c3e-1111-4a2b-9c3d-5e6f7a8b9c0d";
+    private static final String LEGACY_ORPHAN = "7d1e2f3a-2222-4b3c-8d4e-6f7a8b9c0d1e";
+
+    @TempDir
+    Path uploadDir;
+
+    private final SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+    private final SqlSession sqlSession = mock(SqlSession.class);
+    private final FileBlobMapper fileBlobMapper = mock(FileBlobMapper.class);
+    private final FileServiceImpl fileService = new FileServiceImpl();
+    private final UploadGcServiceImpl service = new UploadGcServiceImpl();
+
+    // Cursor 스텁이 돌려줄 DB 참조 값, file_blobs 에서 아직 참조 수가 남은 해시
+    private final List<String> references = new ArrayList<>();
+    private final Set<String> heldHashes = new HashSet<>();
+    private Runnable onHeldCheck = () -> { };
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ReflectionTestUtils.setField(fileService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(fileService, "mediaBaseUrl", "/media/");
+        fileService.init();
+
+        when(sqlSessionFactory.openSession()).thenAnswer(invocation -> sqlSession);
+        when(sqlSession.getMapper(any())).thenAnswer(invocation -> fileBlobMapper);
+        when(fileBlobMapper.streamReferences()).thenAnswer(invocation -> new ListCursor(references));
+        when(fileBlobMapper.countHeld(any(), anyLong())).thenAnswer(invocation -> {
+            onHeldCheck.run();
+            return heldHashes.contains(invocation.<String>getArgument(0)) ? 1 : 0;
+        });
+
+        ReflectionTestUtils.setField(service, "sqlSessionFactory", sqlSessionFactory);
+        ReflectionTestUtils.setField(service, "fileBlobMapper", fileBlobMapper);
+        ReflectionTestUtils.setField(service, "fileService", fileService);
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(service, "enabled", false);
+        ReflectionTestUtils.setField(service, "graceHours", 24L);
+        ReflectionTestUtils.setField(service, "deletesPerSecond", 0);
+        ReflectionTestUtils.setField(service, "directoryPauseMs", 0L);
+        ReflectionTestUtils.setField(service, "reportSamples", 10);
+        service.init();
+    }
+
+    @Test
+    void deletesUnreferencedContentWithItsDerivatives() throws IOException {
+        Path keptOriginal = media(HASH_A, HASH_A + ".png");
+        Path keptThumbnail = media(HASH_A, HASH_A + "_160.png");
+        Path keptManifest = media(HASH_A, HASH_A + ".json");
+        Path orphanOriginal = media(HASH_B, HASH_B + ".jpg");
+        Path orphanThumbnail = media(HASH_B, HASH_B + "_160.jpg");
+        Path orphanManifest = media(HASH_B, HASH_B + ".json");
+        references.add("/media/" + HASH_A + ".png");
+
+        UploadGcReport report = service.run(false);
+
+        assertTrue(Files.exists(keptOriginal));
+        assertTrue(Files.exists(keptThumbnail));
+        assertTrue(Files.exists(keptManifest));
+        assertFalse(Files.exists(orphanOriginal));
+        assertFalse(Files.exists(orphanThumbnail));
+        assertFalse(Files.exists(orphanManifest));
+        assertEquals(1, report.getReferences());
+        assertEquals(6, report.getScannedFiles());
+        assertEquals(3, report.getOrphanFiles());
+        assertEquals(3, report.getDeletedFiles());
+        // 원본을 지울 때만 file_blobs 행 삭제
+        verify(fileBlobMapper, times(1)).delete(any());
+        assertSame(report, service.lastReport());
+    }
+
+    @Test
+    void matchesLegacyFilesByBaseName() throws IOException {
+        Path kept = file(uploadDir.resolve(LEGACY_KEPT + ".jpg"));
+        Path keptThumbnail = file(uploadDir.resolve(LEGACY_KEPT + "_160.jpg"));
+        Path keptManifest = file(uploadDir.resolve(LEGACY_KEPT + ".json"));
+        Path orphan = file(uploadDir.resolve(LEGACY_ORPHAN + ".png"));
+        Path orphanThumbnail = file(uploadDir.resolve(LEGACY_ORPHAN + "_320.png"));
+        // 예전 방식은 저장 경로가 그대로 DB 에 있음
+        references.add(uploadDir + "/" + LEGACY_KEPT + ".jpg");
+        // 외부 URL (소셜 프로필) 은 무시
+        references.add("https://k.kakaocdn.net/dn/profile.jpg");
+
+        UploadGcReport report = service.run(false);
+
+        assertTrue(Files.exists(kept));
+        assertTrue(Files.exists(keptThumbnail));
+        assertTrue(Files.exists(keptManifest));
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(orphanThumbnail));
+        assertEquals(2, report.getDeletedFiles());
+        // 예전 방식 파일은 file_blobs 를 확인하지 않음
+        verify(fileBlobMapper, never()).countHeld(any(), anyLong());
+        verify(fileBlobMapper, never()).delete(any());
+    }
+
+    @Test
+    void keepsFilesInsideGraceWindow() throws IOException {
+        Path recent = media(HASH_B, HASH_B + ".png");
+        Files.setLastModifiedTime(recent, FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1)));
+
+        UploadGcReport report = service.run(false);
+
+        assertTrue(Files.exists(recent));
+        assertEquals(1, report.getRecentFiles());
+        assertEquals(0, report.getOrphanFiles());
+    }
+
+    @Test
+    void keepsFileReuploadedDuringSweep() throws IOException {
+        Path original = media(HASH_B, HASH_B + ".png");
+        // 검사 후 삭제 직전에 같은 내용이 다시 올라와 수정 시각이 갱신된 경우
+        onHeldCheck = () -> touch(original);
+
+        UploadGcReport report = service.run(false);
+
+        assertTrue(Files.exists(original));
+        assertEquals(1, report.getOrphanFiles());
+        assertEquals(0, report.getDeletedFiles());
+        verify(fileBlobMapper, never()).delete(any());
+    }
+
+    @Test
+    void keepsContentStillCountedInFileBlobs() throws IOException {
+        Path original = media(HASH_B, HASH_B + ".png");
+        Path thumbnail = media(HASH_B, HASH_B + "_160.png");
+        heldHashes.add(HASH_B);
+
+        UploadGcReport report = service.run(false);
+
+        assertTrue(Files.exists(original));
+        assertTrue(Files.exists(thumbnail));
+        assertEquals(2, report.getHeldFiles());
+        assertEquals(0, report.getOrphanFiles());
+        // 같은 폴더의 같은 해시는 한 번만 조회
+        verify(fileBlobMapper, times(1)).countHeld(any(), anyLong());
+    }
+
+    @Test
+    void dryRunReportsWithoutDeleting() throws IOException {
+        Path original = media(HASH_B, HASH_B + ".png");
+        Path legacy = file(uploadDir.resolve(LEGACY_ORPHAN + ".png"));
+        Path leftover = file(uploadDir.resolve(".tmp").resolve("upload-1.part"));
+
+        UploadGcReport report = service.run(true);
+
+        assertTrue(report.isDryRun());
+        assertTrue(Files.exists(original));
+        assertTrue(Files.exists(legacy));
+        assertTrue(Files.exists(leftover));
+        assertEquals(3, report.getOrphanFiles());
+        assertEquals(3 * 16, report.getOrphanBytes());
+        assertEquals(3, report.getSamples().size());
+        assertEquals(0, report.getDeletedFiles());
+        verify(fileBlobMapper, never()).delete(any());
+    }
+
+    @Test
+    void deletesStaleTempLeftovers() throws IOException {
+        Path tempDir = uploadDir.resolve(".tmp");
+        Path stale = file(tempDir.resolve("upload-1.part"));
+        Path active = file(tempDir.resolve("upload-2.part"));
+        touch(active);
+        // 썸네일 생성 중 남은 임시 파일 (샤드 폴더 안)
+        Path thumbnailTemp = media(HASH_A, HASH_A + "_160.png.tmp");
+        // 분할 업로드 세션 폴더는 ChunkedUploadService 가 관리
+        Path chunked = file(tempDir.resolve("chunked").resolve("session.part"));
+
+        UploadGcReport report = service.run(false);
+
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(active));
+        assertFalse(Files.exists(thumbnailTemp));
+        assertTrue(Files.exists(chunked));
+        assertEquals(2, report.getDeletedFiles());
+        assertEquals(1, report.getRecentFiles());
+    }
+
+    // 샤드 폴더(해시 앞 2자/다음 2자)에 유예 기간이 지난 파일 생성
+    private Path media(String hash, String name) throws IOException {
+        return file(uploadDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(name));
+    }
+
+    private static Path file(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[16]);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(3)));
+        return path;
+    }
+
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // DB 스트리밍 결과 대신 목록을 한 번만 순회하는 Cursor
+    private static final class ListCursor implements Cursor<String> {
+        private final List<String> values;
+        private boolean closed;
+        private int index = -1;
+
+        ListCursor(List<String> values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return index == values.size() - 1;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return index;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            Iterator<String> iterator = values.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    index++;
+                    return iterator.next();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.jobjob.albaing.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentSnifferTest {
+
+    @Test
+    void detectsJpeg() {
+        assertEquals(ContentSniffer.Type.JPEG, detect(bytes(0xFF, 0xD8, 0xFF, 0xE0, 0, 0x10, 'J', 'F', 'I', 'F')));
+    }
+
+    @Test
+    void detectsPng() {
+        assertEquals(ContentSniffer.Type.PNG, detect(bytes(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D)));
+    }
+
+    @Test
+    void detectsGif() {
+        assertEquals(ContentSniffer.Type.GIF, detect("GIF87a".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(ContentSniffer.Type.GIF, detect("GIF89a\u0001\u0000".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void detectsWebp() {
+        assertEquals(ContentSniffer.Type.WEBP, detect(bytes('R', 'I', 'F', 'F', 0x24, 0, 0, 0, 'W', 'E', 'B', 'P')));
+        // RIFF 이지만 WEBP 가 아닌 경우 (WAV)
+        assertNull(detect(bytes('R', 'I', 'F', 'F', 0x24, 0, 0, 0, 'W', 'A', 'V', 'E')));
+    }
+
+    @Test
+    void rejectsDisguisedAndShortInput() {
+        // 확장자만 이미지인 HTML/스크립트
+        assertNull(detect("<html><script>".getBytes(StandardCharsets.US_ASCII)));
+        assertNull(detect(bytes(0xFF, 0xD8)));
+        assertNull(detect(new byte[0]));
+    }
+
+    @Test
+    void doesNotMovePosition() {
+        ByteBuffer head = ByteBuffer.wrap(bytes(0xFF, 0xD8, 0xFF, 0xDB));
+        assertEquals(ContentSniffer.Type.JPEG, ContentSniffer.detect(head));
+        assertEquals(0, head.position());
+        assertEquals(4, head.remaining());
+    }
+
+    @Test
+    void typeCarriesExtensionAndMimeType() {
+        assertEquals("jpg", ContentSniffer.Type.JPEG.getExtension());
+        assertEquals("image/webp", ContentSniffer.Type.WEBP.getMimeType());
+    }
+
+    private static ContentSniffer.Type detect(byte[] data) {
+        return ContentSniffer.detect(ByteBuffer.wrap(data));
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+}
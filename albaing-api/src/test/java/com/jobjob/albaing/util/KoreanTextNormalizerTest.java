@@ -0,0 +1,45 @@
+package com.jobjob.albaing.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KoreanTextNormalizerTest {
+
+    @Test
+    void nullBecomesEmpty() {
+        assertEquals("", KoreanTextNormalizer.normalize(null, true));
+    }
+
+    @Test
+    void removesWhitespaceAndPunctuation() {
+        assertEquals("로그인어떻게해요", KoreanTextNormalizer.normalize("로그인 어떻게 해요??", false));
+        assertEquals("로그인어떻게해요", KoreanTextNormalizer.normalize("  로그인, 어떻게~ 해요!! ", false));
+    }
+
+    @Test
+    void foldsFullWidthAndCase() {
+        assertEquals("login어떻게해요", KoreanTextNormalizer.normalize("ＬＯＧＩＮ 어떻게 해요", false));
+        assertEquals("login", KoreanTextNormalizer.normalize("LogIn", false));
+    }
+
+    @Test
+    void unifiesDecomposedHangul() {
+        String decomposed = Normalizer.normalize("회원가입", Normalizer.Form.NFD);
+        assertEquals("회원가입", KoreanTextNormalizer.normalize(decomposed, false));
+    }
+
+    @Test
+    void collapsesLongRepeats() {
+        assertEquals("네네", KoreanTextNormalizer.normalize("네네네네", false));
+        assertEquals("네네", KoreanTextNormalizer.normalize("네 네 네", false));
+    }
+
+    @Test
+    void foldJamoRemovesStandaloneJamo() {
+        assertEquals("로그인", KoreanTextNormalizer.normalize("ㅋㅋ 로그인 ㅠㅠ", true));
+        assertNotEquals("로그인", KoreanTextNormalizer.normalize("ㅋㅋ 로그인 ㅠㅠ", false));
+    }
+}
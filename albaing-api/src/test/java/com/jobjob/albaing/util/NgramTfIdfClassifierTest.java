@@ -0,0 +1,53 @@
+package com.jobjob.albaing.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NgramTfIdfClassifierTest {
+
+    private final NgramTfIdfClassifier classifier = new NgramTfIdfClassifier(Map.of(
+            "login", List.of("로그인 어떻게 해요", "로그인이 안돼요"),
+            "signup", List.of("회원가입 하고 싶어요", "가입 방법 알려주세요"),
+            "resume", List.of("이력서 작성 방법", "이력서 수정하고 싶어요")
+    ), 2, 3, true);
+
+    @Test
+    void exactPhraseScoresOne() {
+        NgramTfIdfClassifier.Match match = classifier.classify("로그인 어떻게 해요");
+        assertNotNull(match);
+        assertEquals("login", match.intent());
+        assertEquals(1.0, match.score(), 1e-9);
+    }
+
+    @Test
+    void matchesParaphraseWithDifferentSpacingAndNoise() {
+        NgramTfIdfClassifier.Match match = classifier.classify("ㅠㅠ 로그인이 안 돼요!!");
+        assertNotNull(match);
+        assertEquals("login", match.intent());
+        assertTrue(match.score() > 0.5, "score=" + match.score());
+    }
+
+    @Test
+    void marginIsGapToOtherIntent() {
+        NgramTfIdfClassifier.Match clear = classifier.classify("이력서 작성");
+        assertEquals("resume", clear.intent());
+        assertEquals(clear.score(), clear.margin(), 1e-9);
+
+        // "방법" 은 signup 과 resume 양쪽 문구에 있으므로 차이가 작음
+        NgramTfIdfClassifier.Match ambiguous = classifier.classify("방법");
+        assertNotNull(ambiguous);
+        assertTrue(ambiguous.margin() < 0.1, "margin=" + ambiguous.margin());
+        assertTrue(ambiguous.margin() < clear.margin());
+    }
+
+    @Test
+    void unknownTextReturnsNull() {
+        assertNull(classifier.classify("날씨 어때요"));
+        assertNull(classifier.classify("?!"));
+        assertNull(classifier.classify(null));
+    }
+}
@@ -0,0 +1,156 @@
+package com.jobjob.albaing.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(4, 100);
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<SingleFlight.Role> roles = new CopyOnWriteArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("q", () -> {
+                computations.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "answer";
+            }, 5_000, roles::add));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> followers = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("q", () -> {
+                    computations.incrementAndGet();
+                    return "other";
+                }, 5_000, roles::add)));
+            }
+            // follower 들이 대기 상태에 들어갈 때까지
+            while (roles.size() < 5) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals("answer", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("answer", follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(1, roles.stream().filter(role -> role == SingleFlight.Role.LEADER).count());
+        assertEquals(4, roles.stream().filter(role -> role == SingleFlight.Role.FOLLOWER).count());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void followerTimesOut() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(1, 100);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> singleFlight.execute("q", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "late";
+            }, 5_000, role -> { }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TimeoutException.class,
+                    () -> singleFlight.execute("q", () -> "other", 20, role -> { }));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void leaderFailureIsSharedAndKeyIsReleased() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(1, 100);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("q", () -> {
+                leaderStarted.countDown();
+                await(release);
+                throw new IllegalStateException("boom");
+            }, 5_000, role -> { }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            ExecutorService followerExecutor = Executors.newSingleThreadExecutor();
+            try {
+                Future<String> follower = followerExecutor.submit(() ->
+                        singleFlight.execute("q", () -> "other", 5_000, role -> { }));
+                Thread.sleep(20);
+                release.countDown();
+
+                Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+                assertTrue(leaderError.getCause() instanceof IllegalStateException);
+                Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+                assertTrue(followerError.getCause() instanceof IllegalStateException);
+            } finally {
+                followerExecutor.shutdownNow();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 실패 후 같은 키로 다시 계산 가능
+        assertEquals("retry", singleFlight.execute("q", () -> "retry", 100, role -> { }));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void bypassesWhenInFlightLimitReached() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(1, 1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<SingleFlight.Role> roles = new CopyOnWriteArrayList<>();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> singleFlight.execute("a", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "a";
+            }, 5_000, role -> { }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            assertEquals("b", singleFlight.execute("b", () -> "b", 100, roles::add));
+            assertEquals(List.of(SingleFlight.Role.BYPASS), roles);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
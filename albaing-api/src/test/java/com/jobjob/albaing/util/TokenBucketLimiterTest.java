@@ -0,0 +1,87 @@
+package com.jobjob.albaing.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLimiterTest {
+
+    @Test
+    void allowsBurstUpToCapacityThenReturnsWait() {
+        // 분당 60개 = 1초에 1개 충전
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 60, 100);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+
+        long wait = limiter.tryAcquire("a");
+        assertTrue(wait > 0 && wait <= 1000, "다음 토큰까지 최대 1초: " + wait);
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 60, 100);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        // 분당 60000개 = 1ms 에 1개 충전
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 60_000, 100);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        Thread.sleep(20);
+        assertEquals(0, limiter.tryAcquire("a"));
+    }
+
+    @Test
+    void returnsOverflowWhenKeyTableIsFull() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 60, 1);
+
+        long overflow = 0;
+        int created = 0;
+        for (int i = 0; i < 10_000 && overflow != TokenBucketLimiter.OVERFLOW; i++) {
+            overflow = limiter.tryAcquire("key-" + i);
+            if (overflow == 0) {
+                created++;
+            }
+        }
+        assertEquals(TokenBucketLimiter.OVERFLOW, overflow);
+        assertEquals(created, limiter.size());
+
+        // 가득 찬 상태에서도 이미 있는 키는 자기 버킷을 그대로 사용
+        assertTrue(limiter.tryAcquire("key-0") > 0);
+    }
+
+    @Test
+    void evictIdleRemovesFullBuckets() throws InterruptedException {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 60_000, 100);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        assertEquals(2, limiter.size());
+
+        Thread.sleep(20);
+        limiter.evictIdle();
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    void evictIdleKeepsRecentlyUsedBuckets() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 100);
+        limiter.tryAcquire("a");
+
+        limiter.evictIdle();
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(0, 60, 100));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(10_000, 60, 100));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(1, 0, 100));
+    }
+}
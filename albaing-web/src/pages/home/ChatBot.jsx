@@ -1,4 +1,4 @@
-import React, { useState } from "react";
+import React, { useRef, useState } from "react";
 import axios from "axios";
 // CSS 제거 (테일윈드로 대체)
 
@@ -6,40 +6,86 @@ const ChatBot = () => {
     const [messages, setMessages] = useState([{ sender: "bot", text: "안녕하세요! 무엇을 도와드릴까요?" }]);
     const [input, setInput] = useState("");
     const [isLoading, setIsLoading] = useState(false);
+    // 대화 문맥 유지를 위해 화면이 열려 있는 동안 같은 세션 사용
+    const sessionIdRef = useRef("user-" + Date.now());
 
-    const sendMessage = () => {
-        if (!input.trim()) return;
-
-        const userMessage = { sender: "user", text: input };
-        const currentInput = input;
-
-        setMessages(prevMessages => [...prevMessages, userMessage]);
-        setInput("");
-        setIsLoading(true);
+    const addBotMessage = (message) => {
+        setMessages(prevMessages => [...prevMessages, { sender: "bot", ...message }]);
+    };
 
-        // axios & promise 방식 유지
+    // 스트리밍(SSE)을 사용할 수 없을 때 기존 방식으로 요청
+    const sendWithPost = (currentInput) => {
         axios.post("http://localhost:8080/chatbot/dialogflow", null, {
-            params: { sessionId: "user-" + Date.now(), message: currentInput }
+            params: { sessionId: sessionIdRef.current, message: currentInput }
         })
             .then(response => {
-                const botReply = response.data.response;
-                setMessages(prevMessages => [...prevMessages, {
-                    sender: "bot",
-                    text: botReply
-                }]);
+                addBotMessage({ text: response.data.response });
             })
             .catch(error => {
                 console.error("Error:", error);
-                setMessages(prevMessages => [...prevMessages, {
-                    sender: "bot",
-                    text: "오류가 발생했어요. 다시 시도해주세요."
-                }]);
+                addBotMessage({ text: "오류가 발생했어요. 다시 시도해주세요." });
             })
             .finally(() => {
                 setIsLoading(false);
             });
     };
 
+    const sendMessage = (text = input) => {
+        if (!text.trim() || isLoading) return;
+
+        const userMessage = { sender: "user", text };
+        const currentInput = text;
+
+        setMessages(prevMessages => [...prevMessages, userMessage]);
+        setInput("");
+        setIsLoading(true);
+
+        if (typeof EventSource === "undefined") {
+            sendWithPost(currentInput);
+            return;
+        }
+
+        const params = new URLSearchParams({ sessionId: sessionIdRef.current, message: currentInput });
+        const eventSource = new EventSource("http://localhost:8080/chatbot/stream?" + params.toString());
+        let answered = false;
+
+        const finish = () => {
+            eventSource.close();
+            setIsLoading(false);
+        };
+
+        eventSource.addEventListener("message", (event) => {
+            answered = true;
+            addBotMessage({ text: JSON.parse(event.data).response });
+            setIsLoading(false);
+        });
+        eventSource.addEventListener("rich", (event) => {
+            const rich = JSON.parse(event.data);
+            if (rich.type === "text") {
+                rich.texts.forEach(text => addBotMessage({ text }));
+            } else if (rich.type === "quickReplies") {
+                addBotMessage({ text: rich.title, quickReplies: rich.replies });
+            } else if (rich.type === "card") {
+                addBotMessage({ text: [rich.title, rich.subtitle].filter(Boolean).join("\n") });
+            }
+        });
+        eventSource.addEventListener("error", (event) => {
+            // 서버가 보낸 error 이벤트 (연결 오류는 data 가 없음)
+            if (event.data) {
+                answered = true;
+                addBotMessage({ text: JSON.parse(event.data).response });
+            }
+        });
+        eventSource.addEventListener("done", finish);
+        eventSource.onerror = () => {
+            finish();
+            if (!answered) {
+                setIsLoading(true);
+                sendWithPost(currentInput);
+            }
+        };
+    };
+
     return (
         <div className="w-full max-w-lg mx-auto h-screen max-h-[600px] flex flex-col border border-gray-200 rounded-lg overflow-hidden shadow-lg">
             <div className="bg-blue-600 text-white px-4 py-3">
@@ -56,7 +102,21 @@ const ChatBot = () => {
                                 : "self-start bg-gray-100 text-gray-800"
                         }`}
                     >
-                        {msg.text}
+                        <span className="whitespace-pre-line">{msg.text}</span>
+                        {msg.quickReplies && (
+                            <div className="mt-2 flex flex-wrap gap-2">
+                                {msg.quickReplies.map((reply, replyIndex) => (
+                                    <button
+                                        key={replyIndex}
+                                        onClick={() => sendMessage(reply)}
+                                        disabled={isLoading}
+                                        className="bg-white border border-blue-600 text-blue-600 text-sm px-3 py-1 rounded-full hover:bg-blue-50 disabled:opacity-50"
+                                    >
+                                        {reply}
+                                    </button>
+                                ))}
+                            </div>
+                        )}
                     </div>
                 ))}
                 {isLoading && (
@@ -82,7 +142,7 @@ const ChatBot = () => {
                     disabled={isLoading}
                 />
                 <button
-                    onClick={sendMessage}
+                    onClick={() => sendMessage()}
                     disabled={isLoading}
                     className="bg-blue-600 text-white px-4 py-2 rounded-r-md hover:bg-blue-700 transition-colors disabled:bg-blue-400"
                 >
@@ -3,6 +3,7 @@
 import { useEffect, useState, useRef } from "react";
 import {useParams, useNavigate, Link} from "react-router-dom";
 import axios from "axios";
+import {resolveThumbnail} from "../../service/imageVariantService";
 import {AlertModal, ConfirmModal, ErrorMessage, LoadingSpinner, Modal, useModal} from "../../components";
 import { useAuth } from "../../contexts/AuthContext";
 import apiScrapService from "../../service/apiScrapService";
@@ -78,7 +79,9 @@ export default function JobPostDetail() {
                             .then((companyResponse) => {
                                 if (companyResponse.data) {
                                     setCompanyName(companyResponse.data.companyName || "회사명 미지정");
-                                    setCompanyLogo(companyResponse.data.companyLogo || "");
+                                    // 64px 로고 → 160px 썸네일 사용 (원본 대신)
+                                    resolveThumbnail(companyResponse.data.companyLogo, companyResponse.data.companyLogoVariants)
+                                        .then(logo => setCompanyLogo(logo || ""));
                                 }
                             })
                             .catch(() => {
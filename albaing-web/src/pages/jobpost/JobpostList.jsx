@@ -1,5 +1,6 @@
 import React, {useState, useEffect} from 'react';
 import axios from 'axios';
+import {resolveThumbnail} from '../../service/imageVariantService';
 import {LoadingSpinner, ErrorMessage, useModal, AlertModal} from '../../components';
 import Pagination from '../../components/common/Pagination';
 import {useAuth} from '../../contexts/AuthContext';
@@ -96,16 +97,24 @@ export default function JobpostList() {
         }
     }, [jobListings]);
 
-    // 사용자 주소 정보 로드
+    // 사용자 주소 정보 로드 (checkLogin 에는 주소가 없으므로 전체 프로필 조회)
     useEffect(() => {
         if (isLoggedIn && userType === "personal" && userData && userData.userId) {
-            setUserAddress(userData.userAddress || "");
-
-            // 사용자 주소가 있는 경우 좌표로 변환
-            if (userData.userAddress) {
-                setIsNearbyLoading(true);
-                getUserCoordinates(userData.userAddress);
-            }
+            axios.get('/api/auth/checkLogin/profile', {withCredentials: true})
+                .then(response => {
+                    const address = response.data?.userAddress || "";
+                    setUserAddress(address);
+
+                    // 사용자 주소가 있는 경우 좌표로 변환
+                    if (address) {
+                        setIsNearbyLoading(true);
+                        getUserCoordinates(address);
+                    }
+                })
+                .catch(() => {
+                    setUserAddress("");
+                    setUserCoordinates(null);
+                });
         } else {
             setUserAddress("");
             setUserCoordinates(null);
@@ -296,11 +305,13 @@ export default function JobpostList() {
         Promise.all(
             idsToFetch.map(companyId => {
                 return axios.get(`/api/companies/${companyId}`, {withCredentials: true})
-                    .then(response => {
+                    .then(async response => {
                         if (response.data) {
+                            // 카드에는 원본 대신 썸네일 사용
+                            const logo = await resolveThumbnail(response.data.companyLogo, response.data.companyLogoVariants);
                             newCompanyInfo[companyId] = {
                                 companyName: response.data.companyName || "회사명 미지정",
-                                companyLogo: response.data.companyLogo || null
+                                companyLogo: logo || null
                             };
                         }
                         return companyId;
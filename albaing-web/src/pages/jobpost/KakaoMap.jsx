@@ -1,6 +1,7 @@
 import {useEffect, useState, useRef} from "react";
 import {useParams, useNavigate, Link} from "react-router-dom";
 import axios from "axios";
+import {resolveThumbnail} from "../../service/imageVariantService";
 import {AlertModal, ConfirmModal, ErrorMessage, LoadingSpinner, Modal, useModal} from "../../components";
 import {useAuth} from "../../contexts/AuthContext";
 import apiScrapService from "../../service/apiScrapService";
@@ -46,11 +47,15 @@ export default function KakaoMap() {
         loadUserData();
     }, [jobPostId, isLoggedIn, userType, userData]);
 
-    // 사용자 주소 정보 로드
+    // 사용자 주소 정보 로드 (checkLogin 에는 주소가 없으므로 전체 프로필 조회)
     function loadUserData() {
         if (isLoggedIn && userType === "personal" && userData && userData.userId) {
             // 사용자가 개인 회원이고 로그인되어 있을 때만 주소 정보 가져오기
-            setUserAddress(userData.userAddress || "");
+            axios.get("/api/auth/checkLogin/profile", {withCredentials: true})
+                .then(response => setUserAddress(response.data?.userAddress || ""))
+                .catch(() => setUserAddress(""));
+        } else {
+            setUserAddress("");
         }
     }
 
@@ -84,7 +89,9 @@ export default function KakaoMap() {
                             .then((companyResponse) => {
                                 if (companyResponse.data) {
                                     setCompanyName(companyResponse.data.companyName || "회사명 미지정");
-                                    setCompanyLogo(companyResponse.data.companyLogo || "");
+                                    // 64px 로고 → 160px 썸네일 사용 (원본 대신)
+                                    resolveThumbnail(companyResponse.data.companyLogo, companyResponse.data.companyLogoVariants)
+                                        .then(logo => setCompanyLogo(logo || ""));
                                 }
                             })
                             .catch(() => {
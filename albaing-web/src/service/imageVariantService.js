@@ -0,0 +1,53 @@
+import axios from 'axios';
+
+// 업로드 이미지 썸네일 선택
+// 서버 응답에 썸네일 목록(...Variants)이 있으면 그대로 쓰고,
+// 없으면 /media/{해시}.{확장자} 옆의 manifest(/media/{해시}.json)를 한 번만 조회해 캐시합니다.
+const MEDIA_URL = /^(.*\/media\/[0-9a-f]{64})\.[a-z]+$/;
+const manifestCache = new Map();
+
+// 표시 크기 이상인 썸네일 중 가장 작은 것, 없으면 원본
+export const pickVariant = (variants, size, fallback) => {
+    if (!variants) return fallback;
+    const sizes = Object.keys(variants)
+        .filter(key => key !== 'original')
+        .map(Number)
+        .sort((a, b) => a - b);
+    const fit = sizes.find(s => s >= size);
+    return fit !== undefined ? variants[String(fit)] : (variants.original || fallback);
+};
+
+const loadManifest = (url) => {
+    const match = MEDIA_URL.exec(url);
+    if (!match) return Promise.resolve(null);
+    const manifestUrl = `${match[1]}.json`;
+    if (!manifestCache.has(manifestUrl)) {
+        const base = manifestUrl.substring(0, manifestUrl.lastIndexOf('/') + 1);
+        manifestCache.set(manifestUrl, axios.get(manifestUrl)
+            .then(response => {
+                const variants = {};
+                Object.entries(response.data || {}).forEach(([key, name]) => {
+                    variants[key] = base + name;
+                });
+                return variants;
+            })
+            // 썸네일이 아직 없으면 다음 화면에서 다시 조회
+            .catch(() => {
+                manifestCache.delete(manifestUrl);
+                return null;
+            }));
+    }
+    return manifestCache.get(manifestUrl);
+};
+
+/**
+ * 목록/카드에 표시할 이미지 URL
+ * @param url 원본 URL (companyLogo, userProfileImage)
+ * @param variants 서버가 함께 준 썸네일 목록 (없으면 manifest 조회)
+ * @param size 화면 표시 크기(px), 고해상도 화면을 고려해 2배 정도로 지정
+ */
+export const resolveThumbnail = async (url, variants, size = 160) => {
+    if (!url) return url;
+    if (variants) return pickVariant(variants, size, url);
+    return pickVariant(await loadManifest(url), size, url);
+};